@@ -0,0 +1,43 @@
+package com.abbos.maang.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares a (source, target) pair for which a plain Java mapper is generated at compile time.
+ * <p>
+ * For every pair the {@code MapperProcessor} writes {@code <Source>To<Target>Mapper} into the package of the source
+ * type. The generated class implements {@code MapperFunction<Source, Target>} and exposes a shared {@code INSTANCE};
+ * it reads fields (or their getters) directly and calls the canonical record constructor, with no reflection.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * @GenerateMapper(source = User.class, target = UserDto.class)
+ * class Mappings {
+ * }
+ *
+ * MapperStream.from(User.class).map(UserToUserDtoMapper.INSTANCE);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+@Repeatable(GenerateMapper.List.class)
+public @interface GenerateMapper {
+
+    Class<?> source();
+
+    /**
+     * The record type to construct.
+     */
+    Class<?> target();
+
+    @Documented
+    @Retention(RetentionPolicy.SOURCE)
+    @Target(ElementType.TYPE)
+    @interface List {
+        GenerateMapper[] value();
+    }
+}
@@ -0,0 +1,154 @@
+package com.abbos.maang.annotation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.annotation.ElementType;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runtime view of the {@link Tag} index written at compile time by
+ * {@code com.abbos.maang.annotation.processing.TagIndexProcessor}.
+ * <p>
+ * Finding tagged handlers by scanning the classpath opens every class file. The processor instead records every
+ * tagged type, field, method, constructor and parameter in {@value #RESOURCE}. This class reads that one resource
+ * from each jar or output directory into a map from tag to elements, so {@link #elements(String)} is a single hash
+ * lookup and no tagged class is loaded until a {@link TaggedElement} is {@link TaggedElement#resolve resolved}.
+ * <p>
+ * Index format, one UTF-8 line per tag and element, with tab-separated columns in which {@code \t}, {@code \n} and
+ * {@code \\} are escaped:
+ * <pre>{@code tag  kind  className  member  parameterTypes(comma-separated)  parameterIndex}</pre>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * for (TaggedElement handler : TagIndex.getDefault().elements("handler")) {
+ *     Class<?> type = (Class<?>) handler.resolve(loader);
+ * }
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class TagIndex {
+
+    /**
+     * Location of the index inside every jar or class output directory.
+     */
+    public static final String RESOURCE = "META-INF/maang/tag.index";
+
+    private final Map<String, List<TaggedElement>> elements;
+
+    private TagIndex(Map<String, List<TaggedElement>> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * @return the index visible to the loader of this class, read once
+     */
+    public static TagIndex getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Reads and merges every {@value #RESOURCE} visible to {@code loader}; the result is not cached.
+     *
+     * @throws UncheckedIOException if an index cannot be read
+     */
+    public static TagIndex load(ClassLoader loader) {
+        Map<String, List<TaggedElement>> elements = new HashMap<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                read(resources.nextElement(), elements);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + RESOURCE, e);
+        }
+        elements.replaceAll((tag, list) -> List.copyOf(list));
+        return new TagIndex(Map.copyOf(elements));
+    }
+
+    /**
+     * @return the elements tagged with {@code tag}, in index order, or an empty list
+     */
+    public List<TaggedElement> elements(String tag) {
+        return elements.getOrDefault(tag, List.of());
+    }
+
+    /**
+     * @return the elements tagged with {@code tag} that are of the given kind
+     */
+    public List<TaggedElement> elements(String tag, ElementType kind) {
+        List<TaggedElement> result = new ArrayList<>();
+        for (TaggedElement element : elements(tag)) {
+            if (element.kind() == kind) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return every tag present in the index
+     */
+    public Set<String> tags() {
+        return Collections.unmodifiableSet(elements.keySet());
+    }
+
+    private static void read(URL url, Map<String, List<TaggedElement>> elements) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                if (columns.length != 6) {
+                    throw new IOException("Malformed line in %s: %s".formatted(url, line));
+                }
+                List<String> parameterTypes = columns[4].isEmpty() ? List.of() : Arrays.asList(columns[4].split(","));
+                TaggedElement element = new TaggedElement(ElementType.valueOf(columns[1]), columns[2], columns[3],
+                                                          parameterTypes, Integer.parseInt(columns[5]));
+                elements.computeIfAbsent(unescape(columns[0]), tag -> new ArrayList<>()).add(element);
+            }
+        }
+    }
+
+    /**
+     * Escapes a tag for one column of the index; the inverse of {@link #unescape(String)}.
+     */
+    public static String escape(String tag) {
+        return tag.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n");
+    }
+
+    private static String unescape(String column) {
+        if (column.indexOf('\\') < 0) {
+            return column;
+        }
+        StringBuilder result = new StringBuilder(column.length());
+        for (int i = 0; i < column.length(); i++) {
+            char c = column.charAt(i);
+            if (c == '\\' && i + 1 < column.length()) {
+                char next = column.charAt(++i);
+                result.append(next == 't' ? '\t' : next == 'n' ? '\n' : next);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private static final class DefaultHolder {
+        static final TagIndex INSTANCE = load(TagIndex.class.getClassLoader());
+    }
+}
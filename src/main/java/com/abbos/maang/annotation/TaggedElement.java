@@ -0,0 +1,69 @@
+package com.abbos.maang.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.util.List;
+
+/**
+ * An element annotated with {@link Tag}, as recorded in the build-time {@link TagIndex}.
+ * <p>
+ * Names are kept as strings, so holding or filtering entries loads nothing; {@link #resolve(ClassLoader)} loads the
+ * declaring class and finds the reflective element only when it is actually needed.
+ *
+ * @param kind           {@code TYPE}, {@code FIELD}, {@code METHOD}, {@code CONSTRUCTOR} or {@code PARAMETER}
+ * @param className      binary name of the declaring class, or of the class itself for {@code TYPE}
+ * @param member         field or method name, {@code <init>} for constructors, empty for {@code TYPE}
+ * @param parameterTypes erased parameter type names of the method or constructor, e.g. {@code java.lang.String[]}
+ * @param parameter      the parameter position for {@code PARAMETER}, otherwise {@code -1}
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public record TaggedElement(ElementType kind, String className, String member, List<String> parameterTypes,
+                            int parameter) {
+
+    public TaggedElement {
+        parameterTypes = List.copyOf(parameterTypes);
+    }
+
+    /**
+     * @param loader the loader of the declaring class
+     * @return the {@link Class}, {@link java.lang.reflect.Field}, {@link Executable} or
+     *         {@link java.lang.reflect.Parameter} this entry describes
+     * @throws ReflectiveOperationException if the element no longer exists, e.g. after a partial rebuild
+     */
+    public AnnotatedElement resolve(ClassLoader loader) throws ReflectiveOperationException {
+        Class<?> type = Class.forName(className, false, loader);
+        return switch (kind) {
+            case FIELD -> type.getDeclaredField(member);
+            case METHOD, CONSTRUCTOR -> executable(type, loader);
+            case PARAMETER -> executable(type, loader).getParameters()[parameter];
+            default -> type;
+        };
+    }
+
+    private Executable executable(Class<?> type, ClassLoader loader) throws ReflectiveOperationException {
+        Class<?>[] parameters = new Class<?>[parameterTypes.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = typeOf(parameterTypes.get(i), loader);
+        }
+        return member.equals("<init>") ? type.getDeclaredConstructor(parameters) : type.getDeclaredMethod(member, parameters);
+    }
+
+    private static Class<?> typeOf(String name, ClassLoader loader) throws ClassNotFoundException {
+        if (name.endsWith("[]")) {
+            return typeOf(name.substring(0, name.length() - 2), loader).arrayType();
+        }
+        return switch (name) {
+            case "boolean" -> boolean.class;
+            case "byte" -> byte.class;
+            case "short" -> short.class;
+            case "char" -> char.class;
+            case "int" -> int.class;
+            case "long" -> long.class;
+            case "float" -> float.class;
+            case "double" -> double.class;
+            default -> Class.forName(name, false, loader);
+        };
+    }
+}
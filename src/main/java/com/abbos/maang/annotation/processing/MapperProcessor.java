@@ -0,0 +1,183 @@
+package com.abbos.maang.annotation.processing;
+
+import com.abbos.maang.annotation.GenerateMapper;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code MapperFunction} implementation for every {@link GenerateMapper} pair.
+ * <p>
+ * Each record component of the target is matched to a source field of the same name and type; when the field is not
+ * accessible from the source package, a {@code getX()}, {@code isX()} or {@code x()} accessor is used instead. The
+ * generated {@code map} method is a single constructor call, so primitive components are passed without boxing.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes({
+        "com.abbos.maang.annotation.GenerateMapper",
+        "com.abbos.maang.annotation.GenerateMapper.List"
+})
+public final class MapperProcessor extends AbstractProcessor {
+
+    private static final String MAPPER_FUNCTION = "com.abbos.maang.core.stream.MapperFunction";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                for (AnnotationMirror mirror : pairs(element)) {
+                    TypeElement source = typeValue(mirror, "source");
+                    TypeElement target = typeValue(mirror, "target");
+                    generate(element, mirror, source, target);
+                }
+            }
+        }
+        return true;
+    }
+
+    private List<AnnotationMirror> pairs(Element element) {
+        String single = GenerateMapper.class.getCanonicalName();
+        String container = GenerateMapper.List.class.getCanonicalName();
+        List<AnnotationMirror> result = new ArrayList<>();
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (name.equals(single)) {
+                result.add(mirror);
+            } else if (name.equals(container)) {
+                for (Object value : (List<?>) valueOf(mirror, "value")) {
+                    result.add((AnnotationMirror) ((AnnotationValue) value).getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    private TypeElement typeValue(AnnotationMirror mirror, String name) {
+        return (TypeElement) ((DeclaredType) valueOf(mirror, name)).asElement();
+    }
+
+    private Object valueOf(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException("Missing annotation value: " + name);
+    }
+
+    private void generate(Element origin, AnnotationMirror mirror, TypeElement source, TypeElement target) {
+        if (target.getKind() != ElementKind.RECORD) {
+            error(origin, mirror, "Target type must be a record: " + target.getQualifiedName());
+            return;
+        }
+        PackageElement sourcePackage = processingEnv.getElementUtils().getPackageOf(source);
+        String packageName = sourcePackage.getQualifiedName().toString();
+        String className = source.getSimpleName() + "To" + target.getSimpleName() + "Mapper";
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        if (!generated.add(qualifiedName)) {
+            return;
+        }
+
+        List<String> arguments = new ArrayList<>();
+        for (RecordComponentElement component : target.getRecordComponents()) {
+            String read = reader(source, sourcePackage, component);
+            if (read == null) {
+                error(origin, mirror, "No accessible field or accessor '%s' of type %s in %s"
+                        .formatted(component.getSimpleName(), component.asType(), source.getQualifiedName()));
+                return;
+            }
+            arguments.add(read);
+        }
+
+        boolean visible = source.getModifiers().contains(Modifier.PUBLIC) && target.getModifiers().contains(Modifier.PUBLIC);
+        String sourceName = source.getQualifiedName().toString();
+        String targetName = target.getQualifiedName().toString();
+
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("@javax.annotation.processing.Generated(\"").append(MapperProcessor.class.getName()).append("\")\n")
+                .append(visible ? "public " : "").append("final class ").append(className)
+                .append(" implements ").append(MAPPER_FUNCTION).append('<').append(sourceName).append(", ").append(targetName).append("> {\n\n")
+                .append("    public static final ").append(className).append(" INSTANCE = new ").append(className).append("();\n\n")
+                .append("    @Override\n")
+                .append("    public ").append(targetName).append(" map(").append(sourceName).append(" source) {\n")
+                .append("        return new ").append(targetName).append('(').append(String.join(", ", arguments)).append(");\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, source, target);
+            try (Writer writer = file.openWriter()) {
+                writer.write(code.toString());
+            }
+        } catch (IOException e) {
+            error(origin, mirror, "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private String reader(TypeElement source, PackageElement from, RecordComponentElement component) {
+        String name = component.getSimpleName().toString();
+        TypeMirror type = component.asType();
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(source);
+
+        for (VariableElement field : ElementFilter.fieldsIn(members)) {
+            if (field.getSimpleName().contentEquals(name) && !field.getModifiers().contains(Modifier.STATIC)
+                    && sameType(field.asType(), type) && accessible(field, from)) {
+                return "source." + name;
+            }
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Set<String> accessors = Set.of("get" + capitalized, "is" + capitalized, name);
+        for (ExecutableElement method : ElementFilter.methodsIn(members)) {
+            if (accessors.contains(method.getSimpleName().toString()) && method.getParameters().isEmpty()
+                    && !method.getModifiers().contains(Modifier.STATIC)
+                    && sameType(method.getReturnType(), type) && accessible(method, from)) {
+                return "source." + method.getSimpleName() + "()";
+            }
+        }
+        return null;
+    }
+
+    private boolean sameType(TypeMirror left, TypeMirror right) {
+        return processingEnv.getTypeUtils().isSameType(left, right);
+    }
+
+    private boolean accessible(Element member, PackageElement from) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && processingEnv.getElementUtils().getPackageOf(member).equals(from);
+    }
+
+    private void error(Element element, AnnotationMirror mirror, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element, mirror);
+    }
+}
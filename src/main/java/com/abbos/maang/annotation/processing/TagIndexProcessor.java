@@ -0,0 +1,129 @@
+package com.abbos.maang.annotation.processing;
+
+import com.abbos.maang.annotation.Tag;
+import com.abbos.maang.annotation.TagIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Writes every {@link Tag}-annotated type, field, method, constructor and parameter of the compilation into
+ * {@value TagIndex#RESOURCE}, which {@link TagIndex} reads at runtime instead of scanning the classpath.
+ * <p>
+ * Entries are collected over all rounds and written once, sorted, when processing is over, so the index is
+ * reproducible. The index covers the sources of one compilation; an incremental build that recompiles only some
+ * classes rewrites it with those classes only, so release builds should compile from clean.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@SupportedAnnotationTypes("com.abbos.maang.annotation.Tag")
+public final class TagIndexProcessor extends AbstractProcessor {
+
+    private final Set<String> lines = new TreeSet<>();
+    private final List<Element> origins = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Tag.class)) {
+            String entry = entry(element);
+            if (entry == null) {
+                continue;
+            }
+            origins.add(element);
+            for (String tag : element.getAnnotation(Tag.class).value()) {
+                lines.add(TagIndex.escape(tag) + '\t' + entry);
+            }
+        }
+        if (roundEnv.processingOver() && !lines.isEmpty()) {
+            write();
+        }
+        // other processors may still want to see @Tag
+        return false;
+    }
+
+    /**
+     * @return the element's columns after the tag, or {@code null} for elements the index cannot describe
+     */
+    private String entry(Element element) {
+        return switch (element.getKind()) {
+            case CLASS, INTERFACE, ENUM, RECORD, ANNOTATION_TYPE -> String.join("\t", "TYPE", binaryName(element), "", "", "-1");
+            case FIELD, ENUM_CONSTANT -> String.join("\t", "FIELD", binaryName(element.getEnclosingElement()),
+                                                     element.getSimpleName().toString(), "", "-1");
+            case METHOD, CONSTRUCTOR -> executable((ExecutableElement) element, -1);
+            case PARAMETER -> {
+                ExecutableElement method = (ExecutableElement) element.getEnclosingElement();
+                yield executable(method, method.getParameters().indexOf((VariableElement) element));
+            }
+            default -> {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "@Tag is not indexed here", element);
+                yield null;
+            }
+        };
+    }
+
+    private String executable(ExecutableElement method, int parameter) {
+        String kind = parameter >= 0 ? "PARAMETER" : method.getKind().name();
+        String parameters = method.getParameters().stream()
+                .map(p -> typeName(processingEnv.getTypeUtils().erasure(p.asType())))
+                .collect(Collectors.joining(","));
+        return String.join("\t", kind, binaryName(method.getEnclosingElement()),
+                           method.getSimpleName().toString(), parameters, Integer.toString(parameter));
+    }
+
+    private String typeName(TypeMirror type) {
+        if (type instanceof ArrayType array) {
+            return typeName(array.getComponentType()) + "[]";
+        }
+        if (type instanceof DeclaredType declared) {
+            return binaryName(declared.asElement());
+        }
+        return type.toString();
+    }
+
+    private String binaryName(Element type) {
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) type).toString();
+    }
+
+    private void write() {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TagIndex.RESOURCE,
+                                                                      origins.toArray(Element[]::new));
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# @Tag index: tag, kind, class, member, parameter types, parameter index\n");
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + TagIndex.RESOURCE + ": " + e);
+        }
+    }
+}
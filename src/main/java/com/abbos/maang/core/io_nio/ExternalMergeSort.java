@@ -0,0 +1,398 @@
+package com.abbos.maang.core.io_nio;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Sorts datasets larger than the heap by spilling sorted runs to temporary files and merging them back.
+ * <p>
+ * The input is cut into runs of {@link #withRunSize(int) runSize} records. Each run is sorted and written to its own
+ * file as a task on a {@link ForkJoinPool}, with at most {@code parallelism} runs in flight so memory stays bounded
+ * by roughly {@code (parallelism + 1) * runSize} records. The run files are then read back through
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)} windows, the same way {@link MappedByteBufferExample}
+ * reads its input, and combined by a k-way merge on a {@link PriorityQueue}. When there are more runs than
+ * {@link #withFanIn(int) fanIn}, groups of runs are merged into larger runs first.
+ * <p>
+ * Equal records keep their input order: runs are sorted with a stable sort and ties in the merge go to the earlier
+ * run. Every temporary file is deleted before {@link #sort(Iterator, Consumer)} returns.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ExternalMergeSort.create(Comparator.<Long>naturalOrder(), longSerializer)
+ *         .withRunSize(1 << 20)
+ *         .sort(input, output::add);
+ * }</pre>
+ *
+ * @param <T> the record type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class ExternalMergeSort<T> {
+
+    private final Comparator<? super T> comparator;
+    private final RecordSerializer<T> serializer;
+    private int runSize = 1 << 20;
+    private int fanIn = 256;
+    private int windowSize = 8 << 20;
+    private Path tempDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private ExternalMergeSort(Comparator<? super T> comparator, RecordSerializer<T> serializer) {
+        this.comparator = Objects.requireNonNull(comparator, "comparator must not be null");
+        this.serializer = Objects.requireNonNull(serializer, "serializer must not be null");
+    }
+
+    /**
+     * Creates a new {@code ExternalMergeSort} with default settings.
+     *
+     * @param comparator the record order
+     * @param serializer the binary form used for run files
+     * @return a new {@code ExternalMergeSort} instance
+     */
+    public static <T> ExternalMergeSort<T> create(Comparator<? super T> comparator, RecordSerializer<T> serializer) {
+        return new ExternalMergeSort<>(comparator, serializer);
+    }
+
+    /**
+     * Sets the number of records sorted in memory per run.
+     *
+     * @param runSize records per run
+     * @return this builder
+     */
+    public ExternalMergeSort<T> withRunSize(int runSize) {
+        this.runSize = requirePositive(runSize, "runSize");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of runs merged at once.
+     *
+     * @param fanIn runs per merge, at least 2
+     * @return this builder
+     */
+    public ExternalMergeSort<T> withFanIn(int fanIn) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2: " + fanIn);
+        }
+        this.fanIn = fanIn;
+        return this;
+    }
+
+    /**
+     * Sets the size of each memory-mapped window used to read run files.
+     *
+     * @param windowSize bytes per mapping
+     * @return this builder
+     */
+    public ExternalMergeSort<T> withWindowSize(int windowSize) {
+        this.windowSize = requirePositive(windowSize, "windowSize");
+        return this;
+    }
+
+    /**
+     * Sets the directory for run files.
+     *
+     * @param tempDirectory an existing, writable directory
+     * @return this builder
+     */
+    public ExternalMergeSort<T> withTempDirectory(Path tempDirectory) {
+        this.tempDirectory = Objects.requireNonNull(tempDirectory, "tempDirectory must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the pool that sorts and writes runs.
+     *
+     * @param pool the pool
+     * @return this builder
+     */
+    public ExternalMergeSort<T> withPool(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        return this;
+    }
+
+    /**
+     * Sorts all records of {@code input} and passes them to {@code output} in order.
+     *
+     * @param input  the records to sort, consumed once
+     * @param output receives the sorted records
+     * @return the number of records sorted
+     * @throws IOException if a run file cannot be written or read
+     */
+    @SuppressWarnings("unchecked")
+    public long sort(Iterator<? extends T> input, Consumer<? super T> output) throws IOException {
+        Objects.requireNonNull(input, "input must not be null");
+        Objects.requireNonNull(output, "output must not be null");
+
+        List<Path> runs = new ArrayList<>();
+        Deque<Future<Path>> inFlight = new ArrayDeque<>();
+        try {
+            long count = 0;
+            T[] run = (T[]) new Object[runSize];
+            int filled = 0;
+            while (input.hasNext()) {
+                run[filled++] = input.next();
+                count++;
+                if (filled == runSize) {
+                    if (!input.hasNext() && runs.isEmpty() && inFlight.isEmpty()) {
+                        break;
+                    }
+                    if (inFlight.size() >= pool.getParallelism()) {
+                        runs.add(await(inFlight.poll()));
+                    }
+                    T[] full = run;
+                    inFlight.add(pool.submit(() -> writeRun(full, runSize)));
+                    run = (T[]) new Object[runSize];
+                    filled = 0;
+                }
+            }
+            if (runs.isEmpty() && inFlight.isEmpty()) {
+                Arrays.sort(run, 0, filled, comparator);
+                for (int i = 0; i < filled; i++) {
+                    output.accept(run[i]);
+                }
+                return count;
+            }
+            // runs stay in input order, which the merge's tie-break relies on
+            while (!inFlight.isEmpty()) {
+                runs.add(await(inFlight.poll()));
+            }
+            if (filled > 0) {
+                runs.add(writeRun(run, filled));
+            }
+
+            // each group of consecutive runs is replaced in place by its merged run
+            for (int first = 0; runs.size() > fanIn; first++) {
+                if (first >= runs.size() - 1) {
+                    first = 0;
+                }
+                int end = Math.min(first + fanIn, runs.size());
+                List<Path> group = new ArrayList<>(runs.subList(first, end));
+                Path merged = Files.createTempFile(tempDirectory, "merge-sort-run-", ".bin");
+                runs.subList(first, end).clear();
+                runs.add(first, merged);
+                try (RunWriter writer = new RunWriter(merged)) {
+                    merge(group, writer::write);
+                } finally {
+                    delete(group);
+                }
+            }
+            merge(runs, output);
+            return count;
+        } finally {
+            while (!inFlight.isEmpty()) {
+                try {
+                    runs.add(await(inFlight.poll()));
+                } catch (IOException | RuntimeException ignored) {
+                }
+            }
+            delete(runs);
+        }
+    }
+
+    private Path writeRun(T[] run, int size) throws IOException {
+        Arrays.sort(run, 0, size, comparator);
+        Path file = Files.createTempFile(tempDirectory, "merge-sort-run-", ".bin");
+        try (RunWriter writer = new RunWriter(file)) {
+            for (int i = 0; i < size; i++) {
+                writer.write(run[i]);
+            }
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(file);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void merge(List<Path> runs, Consumer<? super T> output) throws IOException {
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        try {
+            PriorityQueue<RunReader> queue = new PriorityQueue<>(Math.max(1, runs.size()), (left, right) -> {
+                int result = comparator.compare(left.head, right.head);
+                return result != 0 ? result : Integer.compare(left.index, right.index);
+            });
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader reader = new RunReader(runs.get(i), i);
+                readers.add(reader);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+            while (!queue.isEmpty()) {
+                RunReader reader = queue.poll();
+                output.accept(reader.head);
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    private static Path await(Future<Path> run) throws IOException {
+        try {
+            return run.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing a run", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void delete(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Writes length-prefixed records through a reusable buffer.
+     */
+    private final class RunWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+
+        RunWriter(Path file) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        }
+
+        void write(T record) {
+            try {
+                int size = serializer.size(record);
+                int framed = Integer.BYTES + size;
+                if (buffer.remaining() < framed) {
+                    flush();
+                }
+                ByteBuffer target = framed > buffer.capacity() ? ByteBuffer.allocate(framed) : buffer;
+                target.putInt(size);
+                int start = target.position();
+                serializer.write(record, target);
+                if (target.position() - start != size) {
+                    throw new IllegalStateException("Serializer wrote %d bytes but declared %d"
+                                                            .formatted(target.position() - start, size));
+                }
+                if (target != buffer) {
+                    writeFully(target.flip());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void flush() throws IOException {
+            writeFully(buffer.flip());
+            buffer.clear();
+        }
+
+        private void writeFully(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads length-prefixed records through memory-mapped windows, remapping when a record crosses a window edge.
+     */
+    private final class RunReader implements Closeable {
+        private final FileChannel channel;
+        private final long size;
+        private final int index;
+        private MappedByteBuffer window;
+        private long windowStart;
+        private long position;
+        private T head;
+
+        RunReader(Path file, int index) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+            this.size = channel.size();
+            this.index = index;
+        }
+
+        boolean advance() {
+            if (position >= size) {
+                head = null;
+                return false;
+            }
+            try {
+                ensure(Integer.BYTES);
+                int length = window.getInt((int) (position - windowStart));
+                position += Integer.BYTES;
+                ensure(length);
+                head = serializer.read(window.slice((int) (position - windowStart), length));
+                position += length;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (window == null || position + bytes > windowStart + window.limit()) {
+                windowStart = position;
+                long length = Math.min(Math.max(bytes, windowSize), size - position);
+                window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+    }
+}
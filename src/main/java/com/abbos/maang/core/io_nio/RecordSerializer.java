@@ -0,0 +1,29 @@
+package com.abbos.maang.core.io_nio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts records to and from their binary form for {@link ExternalMergeSort} run files.
+ *
+ * @param <T> the record type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public interface RecordSerializer<T> {
+
+    /**
+     * @param record the record to measure
+     * @return the exact number of bytes {@link #write(Object, ByteBuffer)} will produce
+     */
+    int size(T record);
+
+    /**
+     * Writes the record at the buffer's position; the buffer is guaranteed to have {@link #size(Object)} bytes left.
+     */
+    void write(T record, ByteBuffer target);
+
+    /**
+     * Reads a record from a buffer holding exactly the bytes of one record.
+     */
+    T read(ByteBuffer source);
+}
@@ -0,0 +1,302 @@
+package com.abbos.maang.core.reflection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index-based access to every instance field of a class, compiled once per class.
+ * <p>
+ * {@link #of(Class)} resolves all non-static fields of the class and its superclasses, root first and in declaration
+ * order, and compiles the accessor into one hidden class defined from {@code BeanAccessorTemplate}. For each of
+ * {@code get}, {@code set} and the typed getters the class data holds a {@link MethodHandles#tableSwitch} over the
+ * field index whose cases are the fields' getter or setter handles. Those switches sit in {@code static final}
+ * fields, which the JIT treats as constants: a call site that keeps seeing the same bean class inlines the
+ * {@code tableswitch}, and a constant index folds it down to a direct field access, unlike a
+ * {@link java.lang.invoke.VarHandle} or {@link MethodHandle} held in an ordinary field and called with an
+ * {@code Object} signature.
+ * <p>
+ * The typed getters read primitive fields without boxing. Accessors are cached in a {@link ClassValue} and never
+ * pin the bean's classloader.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BeanAccessor accessor = BeanAccessor.of(Employee.class);
+ * int salary = accessor.indexOf("salary");
+ * long total = 0;
+ * for (Employee e : employees) {
+ *     total += accessor.getLong(e, salary);
+ * }
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public abstract class BeanAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle UNSUPPORTED;
+    private static final MethodHandle OUT_OF_BOUNDS;
+
+    /**
+     * Types of the per-field handles, in the order of the class data of both templates.
+     */
+    private static final List<MethodType> HANDLE_TYPES = List.of(
+            MethodType.methodType(Object.class, Object.class),
+            MethodType.methodType(void.class, Object.class, Object.class),
+            MethodType.methodType(int.class, Object.class),
+            MethodType.methodType(long.class, Object.class),
+            MethodType.methodType(double.class, Object.class),
+            MethodType.methodType(boolean.class, Object.class));
+
+    private static final ClassValue<BeanAccessor> CACHE = new ClassValue<>() {
+        @Override
+        protected BeanAccessor computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    static {
+        try {
+            UNSUPPORTED = LOOKUP.findStatic(BeanAccessor.class, "unsupported",
+                                            MethodType.methodType(Object.class, String.class, Object.class));
+            OUT_OF_BOUNDS = LOOKUP.findStatic(BeanAccessor.class, "outOfBounds",
+                                              MethodType.methodType(Object.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> beanClass;
+    private final Field[] fields;
+    private final FieldAccessor[] accessors;
+    private final Map<String, Integer> indexes;
+
+    BeanAccessor(Class<?> beanClass, Field[] fields) {
+        this.beanClass = beanClass;
+        this.fields = fields;
+        this.accessors = new FieldAccessor[fields.length];
+        this.indexes = HashMap.newHashMap(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            // a field shadowed by a subclass field of the same name is reachable by index only
+            indexes.put(fields[i].getName(), i);
+        }
+    }
+
+    /**
+     * @param beanClass the class whose fields are accessed
+     * @return the accessor of {@code beanClass}, compiled on first use
+     * @throws ReflectionException if the class's fields cannot be accessed
+     */
+    public static BeanAccessor of(Class<?> beanClass) {
+        return CACHE.get(Objects.requireNonNull(beanClass, Messages.Reflection.TARGET_CLASS_NULL));
+    }
+
+    public Class<?> beanClass() {
+        return beanClass;
+    }
+
+    /**
+     * @return the number of instance fields
+     */
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * @return the index of the named field, the subclass one if shadowed, or {@code -1}
+     */
+    public int indexOf(String name) {
+        return indexes.getOrDefault(name, -1);
+    }
+
+    public String name(int index) {
+        return fields[index].getName();
+    }
+
+    public Class<?> type(int index) {
+        return fields[index].getType();
+    }
+
+    /**
+     * Returns the accessor of one field, for call sites that always touch the same field. It is compiled into its
+     * own hidden class on first request.
+     */
+    public FieldAccessor accessor(int index) {
+        FieldAccessor accessor = accessors[index];
+        if (accessor == null) {
+            // accessors are stateless, so a racing duplicate is harmless
+            accessors[index] = accessor = compile(fields[index]);
+        }
+        return accessor;
+    }
+
+    /**
+     * @return the field's value, boxed if primitive
+     * @throws IndexOutOfBoundsException if {@code index} is not a field index
+     */
+    public abstract Object get(Object bean, int index);
+
+    /**
+     * @throws ReflectionException       if the field is {@code final}
+     * @throws IndexOutOfBoundsException if {@code index} is not a field index
+     */
+    public abstract void set(Object bean, int index, Object value);
+
+    /**
+     * @see FieldAccessor#getInt(Object)
+     */
+    public abstract int getInt(Object bean, int index);
+
+    /**
+     * @see FieldAccessor#getLong(Object)
+     */
+    public abstract long getLong(Object bean, int index);
+
+    /**
+     * @see FieldAccessor#getDouble(Object)
+     */
+    public abstract double getDouble(Object bean, int index);
+
+    /**
+     * @see FieldAccessor#getBoolean(Object)
+     */
+    public abstract boolean getBoolean(Object bean, int index);
+
+    private static Field[] instanceFields(Class<?> beanClass) {
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> current = beanClass; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.push(current);
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> type : hierarchy) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields.toArray(Field[]::new);
+    }
+
+    /**
+     * Builds one {@code tableswitch} per handle kind over all fields; the order must match the static initializer of
+     * {@code BeanAccessorTemplate}.
+     */
+    private static BeanAccessor compile(Class<?> beanClass) {
+        Field[] fields = instanceFields(beanClass);
+        List<List<MethodHandle>> perField = new ArrayList<>(fields.length);
+        for (Field field : fields) {
+            perField.add(handles(field));
+        }
+        List<MethodHandle> switches = new ArrayList<>(HANDLE_TYPES.size());
+        for (int kind = 0; kind < HANDLE_TYPES.size(); kind++) {
+            MethodType type = HANDLE_TYPES.get(kind).insertParameterTypes(0, int.class);
+            MethodHandle fallback = MethodHandles.dropArguments(MethodHandles.insertArguments(OUT_OF_BOUNDS, 0, fields.length),
+                                                                1, type.dropParameterTypes(0, 1).parameterList())
+                    .asType(type);
+            MethodHandle[] cases = new MethodHandle[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                cases[i] = MethodHandles.dropArguments(perField.get(i).get(kind), 0, int.class);
+            }
+            switches.add(cases.length == 0 ? fallback : MethodHandles.tableSwitch(fallback, cases));
+        }
+        try {
+            MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(Template.BEAN, switches, true);
+            MethodHandle constructor = hidden.findConstructor(
+                    hidden.lookupClass(), MethodType.methodType(void.class, Class.class, Field[].class));
+            return (BeanAccessor) constructor.invoke(beanClass, fields);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to compile accessor for class: " + beanClass.getName(), e);
+        }
+    }
+
+    /**
+     * The handle order must match the static initializer of {@code FieldAccessorTemplate}.
+     */
+    private static FieldAccessor compile(Field field) {
+        try {
+            Class<?> accessor = LOOKUP.defineHiddenClassWithClassData(Template.FIELD, handles(field), true).lookupClass();
+            return (FieldAccessor) LOOKUP.findConstructor(accessor, MethodType.methodType(void.class)).invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to compile accessor for field: " + field, e);
+        }
+    }
+
+    /**
+     * @return the field's handles, of the types in {@link #HANDLE_TYPES}
+     */
+    private static List<MethodHandle> handles(Field field) {
+        Class<?> type = field.getType();
+        MethodHandles.Lookup lookup = LookupCache.of(field.getDeclaringClass()).privateLookup();
+        try {
+            MethodHandle getter = lookup.unreflectGetter(field);
+            MethodHandle setter = Modifier.isFinal(field.getModifiers())
+                    ? MethodHandles.dropArguments(unsupported(field, "is final", Object.class), 1, Object.class)
+                    : lookup.unreflectSetter(field);
+            boolean integral = type == int.class || type == short.class || type == char.class || type == byte.class;
+            boolean numeric = type.isPrimitive() && type != boolean.class;
+            return List.of(
+                    getter.asType(HANDLE_TYPES.get(0)),
+                    setter.asType(HANDLE_TYPES.get(1)),
+                    typed(field, getter, int.class, integral),
+                    typed(field, getter, long.class, integral || type == long.class),
+                    typed(field, getter, double.class, numeric),
+                    typed(field, getter, boolean.class, type == boolean.class));
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Failed to access field: " + field, e);
+        }
+    }
+
+    private static MethodHandle typed(Field field, MethodHandle getter, Class<?> returnType, boolean supported) {
+        MethodHandle handle = supported ? getter : unsupported(field, "cannot be read as " + returnType, returnType);
+        return handle.asType(MethodType.methodType(returnType, Object.class));
+    }
+
+    private static MethodHandle unsupported(Field field, String reason, Class<?> returnType) {
+        return UNSUPPORTED.bindTo("Field %s.%s %s".formatted(field.getDeclaringClass().getName(), field.getName(), reason))
+                .asType(MethodType.methodType(returnType, Object.class));
+    }
+
+    @SuppressWarnings("unused")
+    private static Object unsupported(String message, Object bean) {
+        throw new ReflectionException(message);
+    }
+
+    @SuppressWarnings("unused")
+    private static Object outOfBounds(int size, int index) {
+        throw new IndexOutOfBoundsException("Field index %d out of bounds for %d fields".formatted(index, size));
+    }
+
+    /**
+     * Holder of the templates' class files, read on first compilation.
+     */
+    private static final class Template {
+        static final byte[] BEAN = read("BeanAccessorTemplate.class");
+        static final byte[] FIELD = read("FieldAccessorTemplate.class");
+
+        private static byte[] read(String name) {
+            try (InputStream in = BeanAccessor.class.getResourceAsStream(name)) {
+                return Objects.requireNonNull(in, name + " not found").readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
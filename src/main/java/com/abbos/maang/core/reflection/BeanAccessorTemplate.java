@@ -0,0 +1,108 @@
+package com.abbos.maang.core.reflection;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Bytecode template of the per-class hidden classes defined by {@link BeanAccessor#of(Class)}; never loaded as itself.
+ * <p>
+ * Every hidden copy reads one {@code tableswitch} handle per access kind from its own class data, in the order of
+ * {@link BeanAccessor}'s {@code switches} list. Keep this class free of lambdas and nested classes: they would
+ * still point at the template.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class BeanAccessorTemplate extends BeanAccessor {
+    private static final MethodHandle GET;
+    private static final MethodHandle SET;
+    private static final MethodHandle GET_INT;
+    private static final MethodHandle GET_LONG;
+    private static final MethodHandle GET_DOUBLE;
+    private static final MethodHandle GET_BOOLEAN;
+
+    static {
+        try {
+            List<?> switches = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, List.class);
+            GET = (MethodHandle) switches.get(0);
+            SET = (MethodHandle) switches.get(1);
+            GET_INT = (MethodHandle) switches.get(2);
+            GET_LONG = (MethodHandle) switches.get(3);
+            GET_DOUBLE = (MethodHandle) switches.get(4);
+            GET_BOOLEAN = (MethodHandle) switches.get(5);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    BeanAccessorTemplate(Class<?> beanClass, Field[] fields) {
+        super(beanClass, fields);
+    }
+
+    @Override
+    public Object get(Object bean, int index) {
+        try {
+            return (Object) GET.invokeExact(index, bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void set(Object bean, int index, Object value) {
+        try {
+            SET.invokeExact(index, bean, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int getInt(Object bean, int index) {
+        try {
+            return (int) GET_INT.invokeExact(index, bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public long getLong(Object bean, int index) {
+        try {
+            return (long) GET_LONG.invokeExact(index, bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public double getDouble(Object bean, int index) {
+        try {
+            return (double) GET_DOUBLE.invokeExact(index, bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object bean, int index) {
+        try {
+            return (boolean) GET_BOOLEAN.invokeExact(index, bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new ReflectionException("Field access failed", t);
+    }
+}
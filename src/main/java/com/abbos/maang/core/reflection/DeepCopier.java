@@ -0,0 +1,877 @@
+package com.abbos.maang.core.reflection;
+
+import com.abbos.maang.data_structures.Pair;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Deep copies object graphs field by field, with a copy plan compiled once per class.
+ * <p>
+ * The plan of a class reads and writes every instance field of the class and its superclasses, transient ones
+ * included, through the {@link VarHandle}s that {@link FieldFinder} caches per class, and fuses them into a single
+ * {@link MethodHandle}. A copy is allocated through the no-arg constructor of its class when it declares one, of any
+ * access, and otherwise without running a constructor of its class, as deserialization does; the latter goes through
+ * {@code sun.reflect.ReflectionFactory} from the {@code jdk.unsupported} module, looked up reflectively, and classes
+ * without a no-arg constructor cannot be copied on a runtime image that lacks that module. Shared references and
+ * cycles are preserved: every object is copied once, tracked by identity, and the graph is walked with an explicit
+ * stack, so long chains do not overflow the thread's stack.
+ * <p>
+ * Shortcuts:
+ * <ul>
+ *     <li>{@code String}, boxed primitives, {@code BigInteger}, {@code BigDecimal}, {@code UUID}, {@code Locale},
+ *     enums, records, {@link Pair}, {@code java.time} values, {@code Class} objects and lambdas are shared, not
+ *     copied; a record's mutable components are therefore shared too</li>
+ *     <li>primitive arrays and arrays of such a final immutable type are copied with {@link System#arraycopy}</li>
+ *     <li>JDK collections and maps are rebuilt through their public {@code Comparator} or no-arg constructor, or
+ *     through {@code clone()} and {@code clear()} when no constructor reproduces them, as for {@code EnumMap} and an
+ *     access-ordered {@code LinkedHashMap}, and refilled once the rest of the graph is copied, innermost first, so
+ *     hash keys hash by their copied state. The unmodifiable and synchronized {@code Collections} views are rebuilt
+ *     the same way over a new {@code ArrayList}, {@code LinkedList}, {@code LinkedHashSet}, {@code LinkedHashMap}
+ *     or, for sorted ones, {@code TreeSet} or {@code TreeMap}; a copied view therefore no longer shares its backing
+ *     collection with anything</li>
+ *     <li>{@code List.of}-style collections, {@code Arrays.asList} lists and {@code Collections} singletons are
+ *     rebuilt from their copied elements; {@code Collections} empty collections, and {@code List.of}-style ones whose
+ *     elements are shared, are shared themselves</li>
+ *     <li>other {@link Cloneable} JDK classes whose package is not open to this module, such as {@code Date},
+ *     are copied through their public {@code clone()}</li>
+ * </ul>
+ * Other classes whose package is not open to this module, such as {@code Thread}, cannot be copied, and neither can
+ * a class extending one that has instance fields, such as an exception. A class extending a JDK collection or map
+ * is the exception: its own fields are copied, the JDK superclass is initialized through its no-arg constructor,
+ * and a concrete one is refilled with the copied elements, so a {@code TreeMap} subclass loses its comparator.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Order snapshot = DeepCopier.copy(order);
+ * executor.submit(() -> process(snapshot));
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class DeepCopier {
+
+    private static final MethodType FILL_TYPE = MethodType.methodType(void.class, Object.class, Object.class, Graph.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle COPY;
+    private static final MethodHandle CLEARED;
+    private static final Object IN_PROGRESS = new Object();
+
+    private static final Set<Class<?>> IMMUTABLE = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, Locale.class, Class.class, Pair.class);
+
+    private static final Plan SHARED = (source, graph) -> source;
+    private static final Plan OBJECT = (source, graph) -> graph.register(source, new Object());
+    private static final Plan ENUM_SET = (source, graph) -> graph.register(source, ((EnumSet<?>) source).clone());
+    private static final Plan IMMUTABLE_COLLECTION = rebuilt(DeepCopier::immutable, true);
+    private static final Map<Class<?>, Plan> REBUILT = rebuiltCollections();
+
+    private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return plan(type);
+        }
+    };
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            // (Object value, Graph graph) -> graph.copy(value)
+            COPY = MethodHandles.permuteArguments(
+                    lookup.findVirtual(Graph.class, "copy", MethodType.methodType(Object.class, Object.class)),
+                    MethodType.methodType(Object.class, Object.class, Graph.class), 1, 0);
+            CLEARED = lookup.findStatic(DeepCopier.class, "cleared", FACTORY_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private DeepCopier() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @param source the root of the graph to copy
+     * @return a copy of {@code source} sharing no mutable state with it, or {@code null} if it is {@code null}
+     * @throws ReflectionException if the graph reaches an object that cannot be copied
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @Nullable T copy(@Nullable T source) {
+        Graph graph = new Graph();
+        Object copy = graph.copy(source);
+        graph.complete();
+        return (T) copy;
+    }
+
+    private static Plan plan(Class<?> type) {
+        if (isImmutable(type)) {
+            return SHARED;
+        }
+        if (type.isArray()) {
+            Class<?> component = type.getComponentType();
+            return component.isPrimitive() || isImmutableType(component)
+                    ? DeepCopier::copyArray
+                    : new ObjectArrayPlan(component);
+        }
+        if (type == Object.class) {
+            return OBJECT;
+        }
+        boolean collection = Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+        Class<?> base = closedSuperclass(type);
+        if (type.getClassLoader() == null && base == type) {
+            if (collection) {
+                return collectionPlan(type);
+            }
+            if (Cloneable.class.isAssignableFrom(type)) {
+                return clonePlan(type);
+            }
+        }
+        if (base != Object.class && !collection && hasInstanceFields(base)) {
+            throw new ReflectionException((base == type
+                                                   ? "Cannot deep-copy %s: its package is not open to this module"
+                                                   : "Cannot deep-copy %s: it extends %s, whose package is not open to this module")
+                                                  .formatted(type.getName(), base.getName()));
+        }
+        return new BeanPlan(type, base, collection);
+    }
+
+    /**
+     * @return the first class up the hierarchy of {@code type}, itself included, whose package is not open to this
+     * module; {@code Object} when there is none
+     */
+    private static Class<?> closedSuperclass(Class<?> type) {
+        Class<?> current = type;
+        while (current != Object.class && current.getModule().isOpen(current.getPackageName(), DeepCopier.class.getModule())) {
+            current = current.getSuperclass();
+        }
+        return current;
+    }
+
+    private static boolean hasInstanceFields(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        // an array class reports the package of its component type
+        return !type.isArray() && (IMMUTABLE.contains(type) || type.isRecord() || Enum.class.isAssignableFrom(type)
+                                   || type.isHidden() || type.getPackageName().equals("java.time"));
+    }
+
+    /**
+     * @return whether every value of a field or array of this declared type is shared
+     */
+    private static boolean isImmutableType(Class<?> type) {
+        return (Modifier.isFinal(type.getModifiers()) || type.isEnum()) && isImmutable(type);
+    }
+
+    private static Object copyArray(Object source, Graph graph) {
+        int length = Array.getLength(source);
+        Object copy = Array.newInstance(source.getClass().getComponentType(), length);
+        System.arraycopy(source, 0, copy, 0, length);
+        return graph.register(source, copy);
+    }
+
+    private static Plan clonePlan(Class<?> type) {
+        MethodHandle clone;
+        try {
+            clone = MethodHandles.publicLookup().findVirtual(type, "clone", MethodType.methodType(Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ReflectionException("Cannot deep-copy %s: its package is not open and it has no public clone()"
+                                                  .formatted(type.getName()), e);
+        }
+        return (source, graph) -> {
+            try {
+                return graph.register(source, (Object) clone.invokeExact(source));
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        };
+    }
+
+    private static Plan collectionPlan(Class<?> type) {
+        Plan rebuilt = REBUILT.get(type);
+        if (rebuilt != null) {
+            return rebuilt;
+        }
+        if (EnumSet.class.isAssignableFrom(type)) {
+            return ENUM_SET;
+        }
+        if (type.getName().startsWith("java.util.ImmutableCollections$")) {
+            return IMMUTABLE_COLLECTION;
+        }
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        // no constructor takes a LinkedHashMap's access order, clone() keeps it
+        if (type != LinkedHashMap.class) {
+            try {
+                MethodHandle comparator = lookup.findVirtual(type, "comparator", MethodType.methodType(Comparator.class));
+                MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class, Comparator.class));
+                return new CollectionPlan(MethodHandles.filterArguments(constructor, 0, comparator).asType(FACTORY_TYPE));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // not ordered by a comparator
+            }
+            try {
+                MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+                return new CollectionPlan(MethodHandles.dropArguments(constructor, 0, Object.class).asType(FACTORY_TYPE));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                // rebuilt from a clone below, such as an EnumMap that keeps its key type
+            }
+        }
+        try {
+            MethodHandle clone = lookup.findVirtual(type, "clone", MethodType.methodType(Object.class)).asType(FACTORY_TYPE);
+            return new CollectionPlan(MethodHandles.filterReturnValue(clone, CLEARED));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ReflectionException("Cannot deep-copy %s: it has no public constructor or clone() to rebuild it with"
+                                                  .formatted(type.getName()), e);
+        }
+    }
+
+    /**
+     * @return the plans of the {@code Collections} and {@code Arrays} collections that cannot be allocated empty
+     * and filled later, keyed by their classes, which are private to the JDK
+     */
+    private static Map<Class<?>, Plan> rebuiltCollections() {
+        Map<Class<?>, Plan> plans = new HashMap<>();
+        for (Object empty : List.of(Collections.emptyList(), Collections.emptySet(), Collections.emptyMap())) {
+            plans.put(empty.getClass(), SHARED);
+        }
+        rebuilt(plans, Collections.singletonList(0), (source, e) -> Collections.singletonList(e[0]));
+        rebuilt(plans, Collections.singleton(0), (source, e) -> Collections.singleton(e[0]));
+        rebuilt(plans, Collections.singletonMap(0, 0), (source, e) -> Collections.singletonMap(e[0], e[1]));
+        rebuilt(plans, Arrays.asList(), (source, e) -> Arrays.asList(e));
+
+        List<Object> list = new ArrayList<>();
+        LinkedHashSet<Object> set = new LinkedHashSet<>();
+        TreeSet<Object> sortedSet = new TreeSet<>();
+        LinkedHashMap<Object, Object> map = new LinkedHashMap<>();
+        TreeMap<Object, Object> sortedMap = new TreeMap<>();
+        view(plans, Collections.unmodifiableCollection(list), source -> new ArrayList<>(),
+             copy -> Collections.unmodifiableCollection((Collection<?>) copy));
+        view(plans, Collections.unmodifiableSequencedCollection(list), source -> new ArrayList<>(),
+             copy -> Collections.unmodifiableSequencedCollection((List<?>) copy));
+        view(plans, Collections.unmodifiableList(list), source -> new ArrayList<>(),
+             copy -> Collections.unmodifiableList((List<?>) copy));
+        view(plans, Collections.unmodifiableList(new LinkedList<>()), source -> new LinkedList<>(),
+             copy -> Collections.unmodifiableList((List<?>) copy));
+        view(plans, Collections.unmodifiableSet(set), source -> new LinkedHashSet<>(),
+             copy -> Collections.unmodifiableSet((Set<?>) copy));
+        view(plans, Collections.unmodifiableSequencedSet(set), source -> new LinkedHashSet<>(),
+             copy -> Collections.unmodifiableSequencedSet((LinkedHashSet<?>) copy));
+        view(plans, Collections.unmodifiableSortedSet(sortedSet), DeepCopier::sortedSet,
+             copy -> Collections.unmodifiableSortedSet((TreeSet<?>) copy));
+        view(plans, Collections.unmodifiableNavigableSet(sortedSet), DeepCopier::sortedSet,
+             copy -> Collections.unmodifiableNavigableSet((TreeSet<?>) copy));
+        view(plans, Collections.unmodifiableMap(map), source -> new LinkedHashMap<>(),
+             copy -> Collections.unmodifiableMap((Map<?, ?>) copy));
+        view(plans, Collections.unmodifiableSequencedMap(map), source -> new LinkedHashMap<>(),
+             copy -> Collections.unmodifiableSequencedMap((LinkedHashMap<?, ?>) copy));
+        view(plans, Collections.unmodifiableSortedMap(sortedMap), DeepCopier::sortedMap,
+             copy -> Collections.unmodifiableSortedMap((TreeMap<?, ?>) copy));
+        view(plans, Collections.unmodifiableNavigableMap(sortedMap), DeepCopier::sortedMap,
+             copy -> Collections.unmodifiableNavigableMap((TreeMap<?, ?>) copy));
+        view(plans, Collections.synchronizedCollection(list), source -> new ArrayList<>(),
+             copy -> Collections.synchronizedCollection((Collection<?>) copy));
+        view(plans, Collections.synchronizedList(list), source -> new ArrayList<>(),
+             copy -> Collections.synchronizedList((List<?>) copy));
+        view(plans, Collections.synchronizedList(new LinkedList<>()), source -> new LinkedList<>(),
+             copy -> Collections.synchronizedList((List<?>) copy));
+        view(plans, Collections.synchronizedSet(set), source -> new LinkedHashSet<>(),
+             copy -> Collections.synchronizedSet((Set<?>) copy));
+        view(plans, Collections.synchronizedSortedSet(sortedSet), DeepCopier::sortedSet,
+             copy -> Collections.synchronizedSortedSet((TreeSet<?>) copy));
+        view(plans, Collections.synchronizedNavigableSet(sortedSet), DeepCopier::sortedSet,
+             copy -> Collections.synchronizedNavigableSet((TreeSet<?>) copy));
+        view(plans, Collections.synchronizedMap(map), source -> new LinkedHashMap<>(),
+             copy -> Collections.synchronizedMap((Map<?, ?>) copy));
+        view(plans, Collections.synchronizedSortedMap(sortedMap), DeepCopier::sortedMap,
+             copy -> Collections.synchronizedSortedMap((TreeMap<?, ?>) copy));
+        view(plans, Collections.synchronizedNavigableMap(sortedMap), DeepCopier::sortedMap,
+             copy -> Collections.synchronizedNavigableMap((TreeMap<?, ?>) copy));
+        return Map.copyOf(plans);
+    }
+
+    private static void rebuilt(Map<Class<?>, Plan> plans, Object example, BiFunction<Object, Object[], Object> factory) {
+        plans.put(example.getClass(), rebuilt(factory, false));
+    }
+
+    /**
+     * @param backing creates an empty collection of the kind {@code example} wraps, for a source view
+     * @param view    wraps a backing collection the way {@code example} does
+     */
+    private static void view(Map<Class<?>, Plan> plans, Object example, Function<Object, Object> backing,
+                             UnaryOperator<Object> view) {
+        plans.put(example.getClass(), new CollectionPlan(backing, view));
+    }
+
+    /**
+     * Rebuilds a collection that cannot be allocated empty and filled later, such as {@code List.of}, from its copied
+     * elements. Everything a set element or map key reaches is copied completely before it is hashed or compared,
+     * copies allocated earlier in the graph included; a cycle back to the collection through them fails.
+     *
+     * @param factory        builds the copy from the source and its copied elements, or alternating keys and values
+     * @param shareUnchanged whether the source itself is the copy when none of its elements was copied
+     */
+    private static Plan rebuilt(BiFunction<Object, Object[], Object> factory, boolean shareUnchanged) {
+        return (source, graph) -> {
+            graph.register(source, IN_PROGRESS);
+            boolean map = source instanceof Map<?, ?>;
+            Object[] elements = elements(source);
+            List<Object> keys = new ArrayList<>();
+            boolean changed = false;
+            for (int i = 0; i < elements.length; i++) {
+                Object element = elements[i];
+                elements[i] = graph.copy(element);
+                if (elements[i] != element) {
+                    changed = true;
+                    if (!map || i % 2 == 0) {
+                        keys.add(element);
+                    }
+                }
+            }
+            if (!keys.isEmpty() && !(source instanceof List<?>)) {
+                graph.settle(keys);
+            }
+            return graph.register(source, changed || !shareUnchanged ? factory.apply(source, elements) : source);
+        };
+    }
+
+    private static Object immutable(Object source, Object[] elements) {
+        if (source instanceof Map<?, ?>) {
+            return Map.copyOf(put(HashMap.newHashMap(elements.length / 2), elements));
+        }
+        if (source instanceof List<?>) {
+            return Arrays.stream(elements).toList();
+        }
+        return Set.copyOf(Arrays.asList(elements));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TreeSet<Object> sortedSet(Object source) {
+        return new TreeSet<>((Comparator<Object>) ((SortedSet<?>) source).comparator());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TreeMap<Object, Object> sortedMap(Object source) {
+        return new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) source).comparator());
+    }
+
+    private static <M extends Map<Object, Object>> M put(M map, Object[] entries) {
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put(entries[i], entries[i + 1]);
+        }
+        return map;
+    }
+
+    /**
+     * @return the elements of a collection, or alternating keys and values of a map
+     */
+    private static Object[] elements(Object source) {
+        if (source instanceof Map<?, ?> map) {
+            List<Object> entries = new ArrayList<>(map.size() * 2);
+            map.forEach((key, value) -> {
+                entries.add(key);
+                entries.add(value);
+            });
+            return entries.toArray();
+        }
+        return ((Collection<?>) source).toArray();
+    }
+
+    @SuppressWarnings("unused")
+    private static Object cleared(Object collection) {
+        if (collection instanceof Map<?, ?> map) {
+            map.clear();
+        } else {
+            ((Collection<?>) collection).clear();
+        }
+        return collection;
+    }
+
+    /**
+     * Queues {@code target} to be refilled with the copied elements of {@code source} once the graph is copied.
+     *
+     * @param copy the copy of {@code source}: {@code target} itself, or a view over it
+     */
+    private static void refill(Object source, Object copy, Object target, Graph graph) {
+        Object[] elements = elements(source);
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = graph.copy(elements[i]);
+        }
+        graph.refills.add(new Refill(copy, target, elements));
+        graph.pendingRefills.put(copy, graph.refills.getLast());
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new ReflectionException("Deep copy failed", t);
+    }
+
+    /**
+     * Copies one object of the class it was compiled for; copies of the objects it references come from the graph.
+     */
+    @FunctionalInterface
+    private interface Plan {
+        Object copy(Object source, Graph graph);
+    }
+
+    /**
+     * A plan that allocates an empty copy first and fills it later from the graph's stack, so cycles can point at
+     * the copy before it is complete.
+     */
+    private abstract static class ShellPlan implements Plan {
+
+        @Override
+        public final Object copy(Object source, Graph graph) {
+            Object copy = allocate(source);
+            Fill fill = new Fill(this, source, copy);
+            graph.fills.push(fill);
+            graph.unfilled.put(source, fill);
+            return graph.register(source, view(copy));
+        }
+
+        abstract Object allocate(Object source);
+
+        /**
+         * @return what the graph references in place of the allocated {@code copy}, which is what gets filled
+         */
+        Object view(Object copy) {
+            return copy;
+        }
+
+        abstract void fill(Object source, Object copy, Graph graph);
+    }
+
+    private static final class BeanPlan extends ShellPlan {
+        /**
+         * {@code ()Object}, allocating an instance of the plan's class.
+         */
+        private final MethodHandle allocator;
+        /**
+         * {@code (Object copy, Object source, Graph graph)void}, copying every instance field.
+         */
+        private final MethodHandle fields;
+        /**
+         * {@code (Object source)Object} getters of the fields whose values are copied rather than shared.
+         */
+        private final List<MethodHandle> references = new ArrayList<>();
+        /**
+         * Whether the elements live in a concrete JDK collection or map superclass, which is refilled.
+         */
+        private final boolean refills;
+
+        /**
+         * @param base       the first superclass whose fields are not copied: {@code Object} or a closed JDK class
+         * @param collection whether the class is a collection or map
+         */
+        BeanPlan(Class<?> type, Class<?> base, boolean collection) {
+            this.allocator = allocator(type, collection ? base : Object.class);
+            this.refills = collection && base != Object.class && !Modifier.isAbstract(base.getModifiers());
+            MethodHandle fields = MethodHandles.empty(FILL_TYPE);
+            for (Class<?> current = type; current != base; current = current.getSuperclass()) {
+                for (Field field : LookupCache.of(current).declaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        fields = MethodHandles.foldArguments(fields, fieldCopier(field));
+                        if (!field.getType().isPrimitive() && !isImmutableType(field.getType())) {
+                            references.add(LookupCache.of(current).varHandle(field.getName(), field.getType())
+                                                   .toMethodHandle(VarHandle.AccessMode.GET).asType(FACTORY_TYPE));
+                        }
+                    }
+                }
+            }
+            this.fields = fields;
+        }
+
+        /**
+         * @param initialized the superclass whose no-arg constructor initializes an instance that has none itself
+         */
+        private static MethodHandle allocator(Class<?> type, Class<?> initialized) {
+            try {
+                return LookupCache.of(type).privateLookup()
+                        .findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return Unconstructed.allocator(type, initialized);
+            }
+        }
+
+        private static MethodHandle fieldCopier(Field field) {
+            Class<?> owner = field.getDeclaringClass();
+            Class<?> type = field.getType();
+            LookupCache cache = LookupCache.of(owner);
+            VarHandle handle = cache.varHandle(field.getName(), type);
+            MethodHandle getter = handle.toMethodHandle(VarHandle.AccessMode.GET);
+            MethodHandle setter;
+            if (Modifier.isFinal(field.getModifiers())) {
+                try {
+                    // a Field of our own, the cached one is shared with every caller of FieldFinder
+                    Field writable = owner.getDeclaredField(field.getName());
+                    writable.setAccessible(true);
+                    setter = cache.privateLookup().unreflectSetter(writable);
+                } catch (ReflectiveOperationException e) {
+                    throw new ReflectionException("Cannot write final field: %s in class: %s"
+                                                          .formatted(field.getName(), owner.getName()), e);
+                }
+            } else {
+                setter = handle.toMethodHandle(VarHandle.AccessMode.SET);
+            }
+            if (type.isPrimitive() || isImmutableType(type)) {
+                setter = MethodHandles.dropArguments(setter, 2, Graph.class);
+            } else {
+                setter = MethodHandles.collectArguments(
+                        setter.asType(MethodType.methodType(void.class, owner, Object.class)), 1, COPY);
+                getter = getter.asType(MethodType.methodType(Object.class, owner));
+            }
+            // (owner copy, owner source, Graph graph) -> copy.field = [graph.copy](source.field)
+            return MethodHandles.filterArguments(setter, 1, getter).asType(FILL_TYPE);
+        }
+
+        @Override
+        Object allocate(Object source) {
+            try {
+                Object copy = (Object) allocator.invokeExact();
+                // drops whatever the class's own constructor added
+                return refills ? cleared(copy) : copy;
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        /**
+         * Pushes the values of the copied fields of {@code source} onto {@code stack}.
+         */
+        void references(Object source, ArrayDeque<Object> stack) {
+            for (MethodHandle getter : references) {
+                try {
+                    Object value = (Object) getter.invokeExact(source);
+                    if (value != null) {
+                        stack.push(value);
+                    }
+                } catch (Throwable t) {
+                    throw rethrow(t);
+                }
+            }
+        }
+
+        @Override
+        void fill(Object source, Object copy, Graph graph) {
+            try {
+                fields.invokeExact(copy, source, graph);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+            if (refills) {
+                refill(source, copy, copy, graph);
+            }
+        }
+    }
+
+    /**
+     * Allocates instances without running a constructor of their own class, through the serialization constructors
+     * of {@code sun.reflect.ReflectionFactory}. The factory lives in the {@code jdk.unsupported} module and is looked
+     * up reflectively, so nothing here is compiled against an internal API and a runtime image without the module
+     * only loses this fallback.
+     */
+    private static final class Unconstructed {
+
+        /**
+         * {@code (Class, Constructor)Constructor}, bound to the factory; {@code null} without {@code jdk.unsupported}.
+         */
+        private static final @Nullable MethodHandle NEW_CONSTRUCTOR;
+        private static final MethodHandle NEW_INSTANCE;
+
+        static {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle newConstructor;
+            try {
+                Class<?> factory = Class.forName("sun.reflect.ReflectionFactory");
+                newConstructor = lookup.findVirtual(factory, "newConstructorForSerialization",
+                                                    MethodType.methodType(Constructor.class, Class.class, Constructor.class))
+                        .bindTo(lookup.findStatic(factory, "getReflectionFactory", MethodType.methodType(factory)).invoke());
+            } catch (Throwable t) {
+                newConstructor = null;
+            }
+            NEW_CONSTRUCTOR = newConstructor;
+            try {
+                NEW_INSTANCE = MethodHandles.lookup().findStatic(Unconstructed.class, "newInstance",
+                                                                 MethodType.methodType(Object.class, Constructor.class));
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /**
+         * @return {@code ()Object}, allocating {@code type} with only the no-arg constructor of {@code initialized} run
+         */
+        static MethodHandle allocator(Class<?> type, Class<?> initialized) {
+            if (NEW_CONSTRUCTOR == null) {
+                throw new ReflectionException("Cannot deep-copy %s: it has no no-arg constructor and the jdk.unsupported module is not available"
+                                                      .formatted(type.getName()));
+            }
+            try {
+                Constructor<?> constructor = (Constructor<?>) NEW_CONSTRUCTOR.invokeExact(type, initialized.getDeclaredConstructor());
+                constructor.setAccessible(true);
+                return NEW_INSTANCE.bindTo(constructor);
+            } catch (NoSuchMethodException e) {
+                throw new ReflectionException("Cannot deep-copy %s: %s has no no-arg constructor to initialize it with"
+                                                      .formatted(type.getName(), initialized.getName()), e);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        private static Object newInstance(Constructor<?> constructor) throws ReflectiveOperationException {
+            return constructor.newInstance();
+        }
+    }
+
+    private static final class ObjectArrayPlan extends ShellPlan {
+        private final Class<?> component;
+
+        ObjectArrayPlan(Class<?> component) {
+            this.component = component;
+        }
+
+        @Override
+        Object allocate(Object source) {
+            return Array.newInstance(component, ((Object[]) source).length);
+        }
+
+        @Override
+        void fill(Object source, Object copy, Graph graph) {
+            Object[] from = (Object[]) source;
+            Object[] to = (Object[]) copy;
+            for (int i = 0; i < from.length; i++) {
+                to[i] = graph.copy(from[i]);
+            }
+        }
+    }
+
+    private static final class CollectionPlan extends ShellPlan {
+        /**
+         * An empty collection of the source's class and comparator, or the backing collection of a source view.
+         */
+        private final Function<Object, Object> factory;
+        private final UnaryOperator<Object> view;
+
+        /**
+         * @param factory {@code (Object source)Object}, an empty collection of the source's class and comparator
+         */
+        CollectionPlan(MethodHandle factory) {
+            this(source -> {
+                try {
+                    return (Object) factory.invokeExact(source);
+                } catch (Throwable t) {
+                    throw rethrow(t);
+                }
+            }, UnaryOperator.identity());
+        }
+
+        CollectionPlan(Function<Object, Object> factory, UnaryOperator<Object> view) {
+            this.factory = factory;
+            this.view = view;
+        }
+
+        @Override
+        Object allocate(Object source) {
+            return factory.apply(source);
+        }
+
+        @Override
+        Object view(Object copy) {
+            return view.apply(copy);
+        }
+
+        @Override
+        void fill(Object source, Object copy, Graph graph) {
+            refill(source, graph.copies.get(source), copy, graph);
+        }
+    }
+
+    /**
+     * The copy state of one {@link #copy(Object)} call.
+     */
+    private static final class Graph {
+        private final Map<Object, Object> copies = new IdentityHashMap<>();
+        private final ArrayDeque<Fill> fills = new ArrayDeque<>();
+        /**
+         * The pending fills by source; a fill run early by {@link #settle} is removed here and skipped on the stack.
+         */
+        private final Map<Object, Fill> unfilled = new IdentityHashMap<>();
+        private final List<Refill> refills = new ArrayList<>();
+        private final Map<Object, Refill> pendingRefills = new IdentityHashMap<>();
+        /**
+         * Sources whose copy and everything it reaches are complete.
+         */
+        private final Set<Object> settled = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        @Nullable
+        Object copy(@Nullable Object source) {
+            if (source == null) {
+                return null;
+            }
+            Plan plan = PLANS.get(source.getClass());
+            if (plan == SHARED) {
+                return source;
+            }
+            Object copy = copies.get(source);
+            if (copy == IN_PROGRESS) {
+                throw new ReflectionException("Cannot deep-copy a cycle through: " + source.getClass().getName());
+            }
+            return copy != null ? copy : plan.copy(source, this);
+        }
+
+        Object register(Object source, Object copy) {
+            copies.put(source, copy);
+            return copy;
+        }
+
+        /**
+         * Fills the pending copies, then refills the pending collections.
+         */
+        void complete() {
+            while (!fills.isEmpty()) {
+                fill(fills.pop());
+            }
+            for (Refill refill : refills) {
+                refill(refill);
+            }
+            refills.clear();
+        }
+
+        /**
+         * Completes the copies of everything {@code sources} reach, walking the source graph, so those copies hash
+         * and compare by their copied state: pending fills run, including those of shells allocated before the
+         * caller started, and the pending collections among them are refilled.
+         *
+         * @throws ReflectionException if they reach a collection that is still being rebuilt
+         */
+        void settle(List<Object> sources) {
+            Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            ArrayDeque<Object> stack = new ArrayDeque<>(sources);
+            while (!stack.isEmpty()) {
+                Object source = stack.pop();
+                if (settled.contains(source) || !visited.add(source)) {
+                    continue;
+                }
+                Plan plan = PLANS.get(source.getClass());
+                if (plan == SHARED) {
+                    continue;
+                }
+                copy(source);
+                Fill fill = unfilled.get(source);
+                if (fill != null) {
+                    fill(fill);
+                }
+                if (plan instanceof BeanPlan bean) {
+                    bean.references(source, stack);
+                }
+                if (source instanceof Collection<?> || source instanceof Map<?, ?>) {
+                    push(elements(source), stack);
+                } else if (source instanceof Object[] array) {
+                    push(array, stack);
+                }
+            }
+            for (Object source : visited) {
+                Refill refill = pendingRefills.get(copies.get(source));
+                if (refill != null) {
+                    refill(refill);
+                }
+            }
+            settled.addAll(visited);
+        }
+
+        private static void push(Object[] values, ArrayDeque<Object> stack) {
+            for (Object value : values) {
+                if (value != null) {
+                    stack.push(value);
+                }
+            }
+        }
+
+        private void fill(Fill fill) {
+            if (unfilled.remove(fill.source()) != null) {
+                fill.plan().fill(fill.source(), fill.copy(), this);
+            }
+        }
+
+        private void refill(Refill refill) {
+            if (pendingRefills.remove(refill.copy()) == null) {
+                return;
+            }
+            for (Object element : refill.elements()) {
+                Refill inner = pendingRefills.get(element);
+                if (inner != null) {
+                    refill(inner);
+                }
+            }
+            refill.apply();
+        }
+    }
+
+    private record Fill(ShellPlan plan, Object source, Object copy) {
+    }
+
+    /**
+     * @param copy     the copy registered in the graph, which other refills find among their elements
+     * @param target   the collection to refill: {@code copy} itself, or the backing collection of a view
+     * @param elements the copied elements, or alternating keys and values of a map
+     */
+    private record Refill(Object copy, Object target, Object[] elements) {
+
+        @SuppressWarnings("unchecked")
+        void apply() {
+            if (target instanceof Map<?, ?> map) {
+                put((Map<Object, Object>) map, elements);
+            } else {
+                ((Collection<Object>) target).addAll(Arrays.asList(elements));
+            }
+        }
+    }
+}
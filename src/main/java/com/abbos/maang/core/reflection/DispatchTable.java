@@ -0,0 +1,217 @@
+package com.abbos.maang.core.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.WrongMethodTypeException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Routes command names to handler methods through a {@link MethodHandle} switch tree.
+ * <p>
+ * All handlers share one {@link MethodType}. The table compiles its names into a binary tree of
+ * {@code guardWithTest} nodes over {@link String#hashCode()}, ending in an {@code equals} check per name, and
+ * publishes it through a {@link MutableCallSite}. {@link #invoker()} returns that site's dynamic invoker: called with
+ * {@code invokeExact} from a {@code static final} field, the JIT inlines the whole tree and the selected handler,
+ * with no map lookup, boxing or {@code invokeWithArguments} adaptation on the way.
+ * <p>
+ * Every handler sits behind its own {@link MutableCallSite}, so rebinding a name that is already present swaps that
+ * handler alone and leaves the tree intact; adding or removing a name recompiles the tree. Both are published to
+ * running threads with {@link MutableCallSite#syncAll}, which is expensive: the table suits routes that change rarely.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * static final DispatchTable COMMANDS = DispatchTable.create(MethodType.methodType(String.class, String.class))
+ *         .bind("echo", Commands.class, "echo", MethodLookupKind.STATIC, String.class, String.class)
+ *         .bind("shout", Commands.class, "shout", MethodLookupKind.STATIC, String.class, String.class);
+ * static final MethodHandle DISPATCH = COMMANDS.invoker();
+ *
+ * String reply = (String) DISPATCH.invokeExact("shout", "hello");
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class DispatchTable {
+
+    private static final MethodHandle HASH_CODE;
+    private static final MethodHandle EQUALS;
+    private static final MethodHandle LESS_THAN;
+    private static final MethodHandle UNBOUND;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HASH_CODE = lookup.findVirtual(String.class, "hashCode", MethodType.methodType(int.class));
+            EQUALS = lookup.findVirtual(String.class, "equals", MethodType.methodType(boolean.class, Object.class));
+            LESS_THAN = lookup.findStatic(DispatchTable.class, "lessThan",
+                                          MethodType.methodType(boolean.class, int.class, int.class));
+            UNBOUND = lookup.findStatic(DispatchTable.class, "unbound",
+                                        MethodType.methodType(Object.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodType handlerType;
+    private final MethodHandle fallback;
+    private final MutableCallSite root;
+    private final Map<String, MutableCallSite> handlers = new HashMap<>();
+
+    private DispatchTable(MethodType handlerType, MethodHandle fallback) {
+        this.handlerType = handlerType;
+        this.fallback = fallback;
+        this.root = new MutableCallSite(fallback);
+    }
+
+    /**
+     * Creates an empty table whose unknown names throw {@link ReflectionException}.
+     *
+     * @param handlerType the type every handler is adapted to
+     * @return a new table
+     */
+    public static DispatchTable create(MethodType handlerType) {
+        Objects.requireNonNull(handlerType, "Handler type must not be null");
+        MethodHandle unbound = UNBOUND.asType(MethodType.methodType(handlerType.returnType(), String.class));
+        return new DispatchTable(handlerType, MethodHandles.dropArguments(unbound, 1, handlerType.parameterList()));
+    }
+
+    /**
+     * Creates an empty table that routes unknown names to {@code fallback}.
+     *
+     * @param handlerType the type every handler is adapted to
+     * @param fallback    called with the name followed by the handler's arguments
+     * @return a new table
+     * @throws ReflectionException if {@code fallback} cannot be adapted to {@code (String, handlerType)}
+     */
+    public static DispatchTable create(MethodType handlerType, MethodHandle fallback) {
+        Objects.requireNonNull(handlerType, "Handler type must not be null");
+        Objects.requireNonNull(fallback, "Fallback must not be null");
+        return new DispatchTable(handlerType, adapt("fallback", fallback, handlerType.insertParameterTypes(0, String.class)));
+    }
+
+    /**
+     * Binds a name to a method found through {@link MethodHandleFinder}, adapted to the handler type.
+     *
+     * @see MethodHandleUtils#findMethodHandle(Class, String, MethodLookupKind, Class, Class[])
+     */
+    public DispatchTable bind(String name, Class<?> targetClass, String methodName, MethodLookupKind lookupKind,
+                              Class<?> returnType, Class<?>... parameterTypes) {
+        return bind(name, MethodHandleUtils.findMethodHandle(targetClass, methodName, lookupKind, returnType, parameterTypes));
+    }
+
+    /**
+     * Binds a name to a handler, replacing the handler previously bound to it.
+     * <p>
+     * Replacing retargets the name's own call site only; a new name recompiles the switch tree.
+     *
+     * @param name    the command name
+     * @param handler the handler, adapted to the handler type with {@link MethodHandle#asType}
+     * @return this table
+     * @throws ReflectionException if {@code handler} cannot be adapted to the handler type
+     */
+    public synchronized DispatchTable bind(String name, MethodHandle handler) {
+        Objects.requireNonNull(name, "Name must not be null");
+        MethodHandle target = adapt(name, Objects.requireNonNull(handler, "Handler must not be null"), handlerType);
+        MutableCallSite site = handlers.get(name);
+        if (site != null) {
+            site.setTarget(target);
+            MutableCallSite.syncAll(new MutableCallSite[]{site});
+        } else {
+            handlers.put(name, new MutableCallSite(target));
+            recompile();
+        }
+        return this;
+    }
+
+    /**
+     * @return whether {@code name} was bound; its calls go to the fallback from now on
+     */
+    public synchronized boolean unbind(String name) {
+        if (handlers.remove(name) == null) {
+            return false;
+        }
+        recompile();
+        return true;
+    }
+
+    public synchronized Set<String> names() {
+        return Set.copyOf(handlers.keySet());
+    }
+
+    public MethodType handlerType() {
+        return handlerType;
+    }
+
+    /**
+     * Returns the dispatching handle, of type {@code (String name, handlerType parameters...)handlerType return}.
+     * <p>
+     * The handle follows later {@link #bind} and {@link #unbind} calls. Store it in a {@code static final} field and
+     * call it with {@code invokeExact} to let the JIT inline the dispatch.
+     */
+    public MethodHandle invoker() {
+        return root.dynamicInvoker();
+    }
+
+    private void recompile() {
+        Map<Integer, List<Map.Entry<String, MutableCallSite>>> byHash = new HashMap<>();
+        for (Map.Entry<String, MutableCallSite> entry : handlers.entrySet()) {
+            byHash.computeIfAbsent(entry.getKey().hashCode(), h -> new ArrayList<>()).add(entry);
+        }
+        List<List<Map.Entry<String, MutableCallSite>>> buckets = new ArrayList<>(byHash.values());
+        buckets.sort(Comparator.comparingInt(bucket -> bucket.getFirst().getKey().hashCode()));
+
+        MethodHandle target = fallback;
+        if (!buckets.isEmpty()) {
+            // (String name, ...) -> tree(name.hashCode(), name, ...)
+            target = MethodHandles.foldArguments(tree(buckets, 0, buckets.size()), HASH_CODE);
+        }
+        root.setTarget(target);
+        MutableCallSite.syncAll(new MutableCallSite[]{root});
+    }
+
+    /**
+     * @return {@code (int hash, String name, ...)R}, dispatching among {@code buckets[from, to)}
+     */
+    private MethodHandle tree(List<List<Map.Entry<String, MutableCallSite>>> buckets, int from, int to) {
+        if (to - from == 1) {
+            MethodHandle next = MethodHandles.dropArguments(fallback, 0, int.class);
+            for (Map.Entry<String, MutableCallSite> entry : buckets.get(from)) {
+                MethodHandle test = MethodHandles.dropArguments(
+                        MethodHandles.insertArguments(EQUALS, 1, entry.getKey()), 0, int.class);
+                MethodHandle handler = MethodHandles.dropArguments(entry.getValue().dynamicInvoker(), 0, int.class, String.class);
+                next = MethodHandles.guardWithTest(test, handler, next);
+            }
+            return next;
+        }
+        int middle = (from + to) >>> 1;
+        int pivot = buckets.get(middle).getFirst().getKey().hashCode();
+        return MethodHandles.guardWithTest(MethodHandles.insertArguments(LESS_THAN, 1, pivot),
+                                           tree(buckets, from, middle), tree(buckets, middle, to));
+    }
+
+    private static MethodHandle adapt(String name, MethodHandle handle, MethodType type) {
+        try {
+            return handle.asType(type);
+        } catch (WrongMethodTypeException e) {
+            throw new ReflectionException("Handler %s of type %s does not fit %s".formatted(name, handle.type(), type), e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static boolean lessThan(int hash, int pivot) {
+        return hash < pivot;
+    }
+
+    @SuppressWarnings("unused")
+    private static Object unbound(String name) {
+        throw new ReflectionException("No handler bound to: " + name);
+    }
+}
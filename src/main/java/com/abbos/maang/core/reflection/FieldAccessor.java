@@ -0,0 +1,50 @@
+package com.abbos.maang.core.reflection;
+
+/**
+ * Reads and writes one instance field, compiled by {@link BeanAccessor}.
+ * <p>
+ * Each implementation is a hidden class whose handles are {@code static final} constants, so a call site that
+ * keeps seeing the same accessor is inlined down to a plain field load or store.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public interface FieldAccessor {
+
+    /**
+     * @return the field's value, boxed if primitive
+     */
+    Object get(Object bean);
+
+    /**
+     * @throws ReflectionException if the field is {@code final}
+     * @throws ClassCastException  if {@code value} does not fit the field's type
+     */
+    void set(Object bean, Object value);
+
+    /**
+     * Reads an {@code int} field, or a {@code byte}, {@code short} or {@code char} one widened, without boxing.
+     *
+     * @throws ReflectionException if the field's type does not widen to {@code int}
+     */
+    int getInt(Object bean);
+
+    /**
+     * Reads any integral primitive field, widened, without boxing.
+     *
+     * @throws ReflectionException if the field's type does not widen to {@code long}
+     */
+    long getLong(Object bean);
+
+    /**
+     * Reads any numeric primitive field, widened, without boxing.
+     *
+     * @throws ReflectionException if the field's type does not widen to {@code double}
+     */
+    double getDouble(Object bean);
+
+    /**
+     * @throws ReflectionException if the field is not a {@code boolean}
+     */
+    boolean getBoolean(Object bean);
+}
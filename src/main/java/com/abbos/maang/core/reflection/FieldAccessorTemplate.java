@@ -0,0 +1,102 @@
+package com.abbos.maang.core.reflection;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Bytecode template of the hidden classes defined by {@link BeanAccessor}; never loaded as itself.
+ * <p>
+ * Every hidden copy reads its handles from its own class data, in the order of {@link BeanAccessor}'s
+ * {@code handles} list. Keep this class free of lambdas and nested classes: they would still point at the template.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class FieldAccessorTemplate implements FieldAccessor {
+    private static final MethodHandle GET;
+    private static final MethodHandle SET;
+    private static final MethodHandle GET_INT;
+    private static final MethodHandle GET_LONG;
+    private static final MethodHandle GET_DOUBLE;
+    private static final MethodHandle GET_BOOLEAN;
+
+    static {
+        try {
+            List<?> handles = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, List.class);
+            GET = (MethodHandle) handles.get(0);
+            SET = (MethodHandle) handles.get(1);
+            GET_INT = (MethodHandle) handles.get(2);
+            GET_LONG = (MethodHandle) handles.get(3);
+            GET_DOUBLE = (MethodHandle) handles.get(4);
+            GET_BOOLEAN = (MethodHandle) handles.get(5);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Object get(Object bean) {
+        try {
+            return (Object) GET.invokeExact(bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public void set(Object bean, Object value) {
+        try {
+            SET.invokeExact(bean, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public int getInt(Object bean) {
+        try {
+            return (int) GET_INT.invokeExact(bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public long getLong(Object bean) {
+        try {
+            return (long) GET_LONG.invokeExact(bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public double getDouble(Object bean) {
+        try {
+            return (double) GET_DOUBLE.invokeExact(bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object bean) {
+        try {
+            return (boolean) GET_BOOLEAN.invokeExact(bean);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new ReflectionException("Field access failed", t);
+    }
+}
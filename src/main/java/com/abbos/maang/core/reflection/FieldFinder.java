@@ -4,11 +4,9 @@ import com.google.errorprone.annotations.Immutable;
 import com.google.errorprone.annotations.Keep;
 import org.jspecify.annotations.Nullable;
 
-import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -24,7 +22,7 @@ import java.util.function.Predicate;
  * handle.set(instance, 42); // Assigns a value reflectively
  * }</pre>
  *
- * <p>This class is stateless, thread-safe, and non-instantiable.
+ * <p>This class is thread-safe and non-instantiable; resolved members are cached without pinning classloaders.
  *
  * @author Aliabbos Ashurov
  * @since 2025-06-08
@@ -57,6 +55,8 @@ public final class FieldFinder {
 
     /**
      * Resolves a {@link VarHandle} for a named field of the given type, applying a filter to the resulting handle.
+     * <p>
+     * Handles and failed lookups are cached per class, so only the first call pays for the lookup.
      *
      * @param targetClass the class in which the field is declared
      * @param fieldName   the name of the field
@@ -73,14 +73,8 @@ public final class FieldFinder {
         Objects.requireNonNull(filter, Messages.Reflection.FILTER_NULL);
         Objects.requireNonNull(fieldType, "fieldType must not be null");
 
-        try {
-            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
-            return Optional.ofNullable(lookup.findVarHandle(targetClass, fieldName, fieldType))
-                    .filter(filter)
-                    .orElse(null);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new ReflectionException("Failed to obtain VarHandle for field: " + fieldName, e);
-        }
+        VarHandle handle = LookupCache.of(targetClass).varHandle(fieldName, fieldType);
+        return filter.test(handle) ? handle : null;
     }
 
     /**
@@ -99,6 +93,9 @@ public final class FieldFinder {
      * Searches for a {@link Field} declared with the given name, using a predicate for filtering.
      * <p>
      * The search traverses up the superclass hierarchy until a matching field is found or the root class is reached.
+     * Declared fields are cached per class, so a level without the field costs a map lookup rather than a thrown
+     * {@link NoSuchFieldException}. Every call returns a {@link Field} of its own, as {@link Class#getDeclaredField}
+     * does, so changing its accessibility does not affect other callers.
      *
      * @param targetClass the class to inspect
      * @param fieldName   the name of the field
@@ -115,18 +112,27 @@ public final class FieldFinder {
         Objects.requireNonNull(filter, Messages.Reflection.FILTER_NULL);
 
         for (Class<?> current = targetClass; current != null && current != Object.class; current = current.getSuperclass()) {
-            try {
-                Field field = current.getDeclaredField(fieldName);
-                if (filter.test(field)) {
-                    if (!field.trySetAccessible()) {
-                        throw new ReflectionException("Cannot access field: %s in class: %s"
-                                                              .formatted(fieldName, current.getName()));
-                    }
-                    return field;
+            if (LookupCache.of(current).declaredField(fieldName) == null) {
+                continue;
+            }
+            Field field = copyOf(current, fieldName);
+            if (filter.test(field)) {
+                if (!field.trySetAccessible()) {
+                    throw new ReflectionException("Cannot access field: %s in class: %s"
+                                                          .formatted(fieldName, current.getName()));
                 }
-            } catch (NoSuchFieldException ignored) {
+                return field;
             }
         }
         return null;
     }
-}
\ No newline at end of file
+
+    private static Field copyOf(Class<?> declaringClass, String fieldName) {
+        try {
+            return declaringClass.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            throw new ReflectionException("Field disappeared: %s in class: %s"
+                                                  .formatted(fieldName, declaringClass.getName()), e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.abbos.maang.core.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Spins a functional-interface implementation around a direct {@link MethodHandle} with {@link LambdaMetafactory},
+ * the same way {@code javac} compiles a method reference.
+ * <p>
+ * The result is an ordinary class whose single method calls the target directly, so the JIT inlines it like hand
+ * written code, whereas {@code invoke} on a handle held in a field goes through a non-constant call site.
+ * <p>
+ * The metafactory only accepts a caller with full privilege access, which {@code privateLookupIn} never grants for
+ * a class in another module, and every classloader has an unnamed module of its own. Targets loaded by another
+ * loader are therefore bound through {@link MethodHandleProxies} instead, which works from any lookup that could
+ * resolve the handle but calls it through a proxy, without the inlining; the interface must then be public. So are
+ * interfaces the target's loader cannot see, such as one from a child loader: the class the metafactory spins is
+ * defined next to the target and would fail to resolve them.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class LambdaBinder {
+
+    private LambdaBinder() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @param caller              a private lookup in the target class, see {@link LookupCache#privateLookup()}
+     * @param functionalInterface interface with a single abstract method whose arity matches {@code impl}
+     * @param impl                a direct handle; for virtual methods the receiver is the first parameter
+     * @return a stateless instance of {@code functionalInterface}
+     */
+    static Object bind(MethodHandles.Lookup caller, Class<?> functionalInterface, MethodHandle impl) {
+        Method sam = singleAbstractMethod(functionalInterface);
+        MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        MethodType implType = impl.type();
+        if (samType.parameterCount() != implType.parameterCount()) {
+            throw new ReflectionException("%s.%s takes %d arguments, but %s needs %d"
+                                                  .formatted(functionalInterface.getSimpleName(), sam.getName(),
+                                                             samType.parameterCount(), implType,
+                                                             implType.parameterCount()));
+        }
+        if (!caller.hasFullPrivilegeAccess() || !LookupCache.reaches(caller.lookupClass(), functionalInterface)) {
+            return proxy(functionalInterface, impl);
+        }
+        try {
+            CallSite site = LambdaMetafactory.metafactory(caller, sam.getName(), MethodType.methodType(functionalInterface),
+                                                          samType, impl, instantiate(samType, implType));
+            return site.getTarget().invoke();
+        } catch (LambdaConversionException e) {
+            throw new ReflectionException("Cannot bind %s to %s".formatted(implType, functionalInterface.getName()), e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to instantiate " + functionalInterface.getName(), e);
+        }
+    }
+
+    private static Object proxy(Class<?> functionalInterface, MethodHandle impl) {
+        try {
+            return MethodHandleProxies.asInterfaceInstance(functionalInterface, impl);
+        } catch (IllegalArgumentException | WrongMethodTypeException e) {
+            throw new ReflectionException("Cannot bind %s to %s".formatted(impl.type(), functionalInterface.getName()), e);
+        }
+    }
+
+    /**
+     * Specializes the erased interface type to the target's types: reference positions take the boxed target type,
+     * primitive positions stay as declared by the interface.
+     */
+    private static MethodType instantiate(MethodType samType, MethodType implType) {
+        Class<?>[] parameters = new Class<?>[samType.parameterCount()];
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> declared = samType.parameterType(i);
+            parameters[i] = declared.isPrimitive() ? declared : box(implType.parameterType(i));
+        }
+        Class<?> declared = samType.returnType();
+        Class<?> returnType = declared == void.class || declared.isPrimitive() ? declared : box(implType.returnType());
+        return MethodType.methodType(returnType, parameters);
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static Method singleAbstractMethod(Class<?> functionalInterface) {
+        if (!functionalInterface.isInterface()) {
+            throw new ReflectionException(functionalInterface.getName() + " is not an interface");
+        }
+        Method found = null;
+        for (Method method : functionalInterface.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            if (found != null) {
+                throw new ReflectionException(functionalInterface.getName() + " has more than one abstract method");
+            }
+            found = method;
+        }
+        if (found == null) {
+            throw new ReflectionException(functionalInterface.getName() + " has no abstract method");
+        }
+        return found;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.abbos.maang.core.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-class cache of declared fields, {@link VarHandle}s, {@link MethodHandle}s and their functional-interface
+ * bindings behind {@link FieldFinder}, {@link MethodHandleFinder} and {@link MethodHandleUtils}.
+ * <p>
+ * Entries live in a {@link ClassValue}, which stores them inside the {@link Class} itself: an entry is reclaimed
+ * together with its class and never keeps a classloader alive, unlike a static {@code Map<Class<?>, ...>}. An entry
+ * only references its own class and the types in its members' signatures, which that class's loader already reaches.
+ * A functional-interface binding is kept by whichever of the class and the interface reaches the other's loader, and
+ * not at all when neither does.
+ * <p>
+ * Field handles are keyed by name alone and checked against the declared field, so a warm hit allocates nothing and
+ * a missing or mistyped field fails from the cached fields without asking the JDK. Failed method lookups keep their
+ * message, without the {@link ReflectiveOperationException} the JDK built for them, so repeated misses no longer pay
+ * for it; each hit throws a fresh {@link ReflectionException} with the caller's own stack trace. At most
+ * {@value #MAX_MISSES} misses are kept per class, and only those whose signature this class's loader already
+ * reaches, so caller-supplied names can neither grow the cache nor pin another loader.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class LookupCache {
+
+    private static final ClassValue<LookupCache> CACHE = new ClassValue<>() {
+        @Override
+        protected LookupCache computeValue(Class<?> type) {
+            return new LookupCache(type);
+        }
+    };
+
+    private static final int MAX_MISSES = 64;
+
+    private final Class<?> type;
+    private final Map<String, Field> declaredFields;
+    private final Map<String, VarHandle> varHandles = new ConcurrentHashMap<>();
+    private final Map<MemberKey, MethodHandle> handles = new ConcurrentHashMap<>();
+    private final Map<MemberKey, String> misses = new ConcurrentHashMap<>();
+    private final Map<Binding, Object> bindings = new ConcurrentHashMap<>();
+    private volatile MethodHandles.Lookup lookup;
+
+    private LookupCache(Class<?> type) {
+        this.type = type;
+        Field[] fields = type.getDeclaredFields();
+        this.declaredFields = HashMap.newHashMap(fields.length);
+        for (Field field : fields) {
+            declaredFields.put(field.getName(), field);
+        }
+    }
+
+    static LookupCache of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * @return the field declared by this class itself, or {@code null}; the instance is shared and must not be
+     * modified, for example with {@code setAccessible}
+     */
+    Field declaredField(String name) {
+        return declaredFields.get(name);
+    }
+
+    /**
+     * @return the fields declared by this class itself, in no particular order; shared like {@link #declaredField}
+     */
+    Collection<Field> declaredFields() {
+        return declaredFields.values();
+    }
+
+    VarHandle varHandle(String name, Class<?> fieldType) {
+        VarHandle cached = varHandles.get(name);
+        if (cached != null && cached.varType() == fieldType) {
+            return cached;
+        }
+        Field field = resolvedField(name);
+        if (field == null || field.getType() != fieldType || Modifier.isStatic(field.getModifiers())) {
+            throw new ReflectionException("Failed to obtain VarHandle for field: " + name);
+        }
+        return varHandles.computeIfAbsent(name, n -> {
+            try {
+                return lookup().findVarHandle(type, n, fieldType);
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new ReflectionException("Failed to obtain VarHandle for field: " + n, e);
+            }
+        });
+    }
+
+    /**
+     * @return the field {@code findVarHandle} would resolve, searching superclasses like the JVM does
+     */
+    private Field resolvedField(String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Field field = of(current).declaredField(name);
+            if (field != null) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param name ignored for {@link MethodLookupKind#CONSTRUCTOR}
+     */
+    MethodHandle methodHandle(MethodLookupKind kind, String name, MethodType methodType) {
+        return resolve(memberKey(kind, name, methodType));
+    }
+
+    /**
+     * Binds a method of this class to {@code functionalInterface}, see {@link LambdaBinder}. The instance references
+     * both, so it is cached with this class when its loader reaches the interface, with the interface when the
+     * interface's loader reaches this class, as for a plugin interface over a parent-loader class, and not at all
+     * otherwise.
+     */
+    Object functional(Class<?> functionalInterface, MethodLookupKind kind, String name, MethodType methodType) {
+        Binding key = new Binding(type, functionalInterface, memberKey(kind, name, methodType));
+        Map<Binding, Object> cache = reaches(functionalInterface) ? bindings
+                : reaches(functionalInterface, type) ? of(functionalInterface).bindings
+                : null;
+        Object cached = cache == null ? null : cache.get(key);
+        if (cached == null) {
+            MethodHandle impl = resolve(key.member());
+            cached = cache == null
+                    ? LambdaBinder.bind(privateLookup(), functionalInterface, impl)
+                    : cache.computeIfAbsent(key, k -> LambdaBinder.bind(privateLookup(), functionalInterface, impl));
+        }
+        return cached;
+    }
+
+    private static MemberKey memberKey(MethodLookupKind kind, String name, MethodType methodType) {
+        return new MemberKey(kind, kind == MethodLookupKind.CONSTRUCTOR ? "<init>" : name, methodType);
+    }
+
+    private MethodHandle resolve(MemberKey key) {
+        MethodHandle cached = handles.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        String miss = misses.get(key);
+        if (miss != null) {
+            throw new ReflectionException(miss);
+        }
+        return handles.computeIfAbsent(key, this::lookUp);
+    }
+
+    private MethodHandle lookUp(MemberKey key) {
+        try {
+            MethodHandles.Lookup lookup = lookup();
+            return switch (key.kind()) {
+                case VIRTUAL -> lookup.findVirtual(type, key.name(), key.type());
+                case STATIC -> lookup.findStatic(type, key.name(), key.type());
+                case SPECIAL -> lookup.findSpecial(type, key.name(), key.type(), type);
+                case CONSTRUCTOR -> lookup.findConstructor(type, key.type());
+            };
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            String message = "Failed to find method handle for: " + describe(key);
+            remember(key, message);
+            throw new ReflectionException(message, e);
+        }
+    }
+
+    /**
+     * Caches a miss unless its signature mentions a class this class's loader does not reach; a full cache starts over.
+     */
+    private void remember(MemberKey key, String message) {
+        MethodType methodType = key.type();
+        for (int i = -1; i < methodType.parameterCount(); i++) {
+            if (!reaches(i < 0 ? methodType.returnType() : methodType.parameterType(i))) {
+                return;
+            }
+        }
+        if (misses.size() >= MAX_MISSES) {
+            misses.clear();
+        }
+        misses.put(key, message);
+    }
+
+    private boolean reaches(Class<?> other) {
+        return reaches(type, other);
+    }
+
+    /**
+     * @return whether {@code other} was loaded by the loader of {@code from} or one of its ancestors
+     */
+    static boolean reaches(Class<?> from, Class<?> other) {
+        ClassLoader loader = other.getClassLoader();
+        for (ClassLoader current = from.getClassLoader(); ; current = current.getParent()) {
+            if (current == loader) {
+                return true;
+            }
+            if (current == null) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return a lookup with private access to this class, created once
+     * @throws ReflectionException if the class's module does not open its package to this one
+     */
+    MethodHandles.Lookup privateLookup() {
+        try {
+            return lookup();
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Cannot access class: " + type.getName(), e);
+        }
+    }
+
+    private String describe(MemberKey key) {
+        return key.kind() == MethodLookupKind.CONSTRUCTOR ? type.getName() : key.name();
+    }
+
+    private MethodHandles.Lookup lookup() throws IllegalAccessException {
+        MethodHandles.Lookup result = lookup;
+        if (result == null) {
+            result = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            lookup = result;
+        }
+        return result;
+    }
+
+    private record MemberKey(MethodLookupKind kind, String name, MethodType type) {
+    }
+
+    private record Binding(Class<?> target, Class<?> functionalInterface, MemberKey member) {
+    }
+}
@@ -1,7 +1,6 @@
 package com.abbos.maang.core.reflection;
 
 import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.util.Objects;
 
@@ -82,6 +81,8 @@ final class MethodHandleFinder {
 
     /**
      * Finds the method handle based on the configured parameters.
+     * <p>
+     * Handles and failed lookups are cached per class, so repeated calls skip {@code privateLookupIn}.
      *
      * @return the method handle
      * @throws ReflectionException  if the method or constructor cannot be found or accessed
@@ -92,18 +93,28 @@ final class MethodHandleFinder {
         Objects.requireNonNull(returnType, "Return type must not be null");
         Objects.requireNonNull(lookupKind, "MethodLookupKind must not be null");
 
-        try {
-            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
-            MethodType methodType = MethodType.methodType(returnType, parameterTypes);
+        return LookupCache.of(targetClass).methodHandle(lookupKind, methodName, MethodType.methodType(returnType, parameterTypes));
+    }
+
+    /**
+     * Finds the method like {@link #find()} and binds it to {@code functionalInterface} through
+     * {@link java.lang.invoke.LambdaMetafactory}, as a method reference would.
+     * <p>
+     * The interface's single abstract method takes the receiver first for {@link MethodLookupKind#VIRTUAL} and
+     * {@link MethodLookupKind#SPECIAL} lookups. Bindings are cached per class, except between an interface and a
+     * class whose loaders do not reach each other.
+     *
+     * @param functionalInterface the interface to implement
+     * @return a stateless implementation calling the method directly
+     * @throws ReflectionException if the method cannot be found or its type does not fit the interface
+     */
+    public <F> F bind(Class<F> functionalInterface) {
+        Objects.requireNonNull(functionalInterface, "Functional interface must not be null");
+        Objects.requireNonNull(methodName, Messages.Reflection.METHOD_NAME_NULL);
+        Objects.requireNonNull(returnType, "Return type must not be null");
+        Objects.requireNonNull(lookupKind, "MethodLookupKind must not be null");
 
-            return switch (lookupKind) {
-                case VIRTUAL -> lookup.findVirtual(targetClass, methodName, methodType);
-                case STATIC -> lookup.findStatic(targetClass, methodName, methodType);
-                case SPECIAL -> lookup.findSpecial(targetClass, methodName, methodType, targetClass);
-                case CONSTRUCTOR -> lookup.findConstructor(targetClass, methodType);
-            };
-        } catch (NoSuchMethodException | IllegalAccessException e) {
-            throw new ReflectionException("Failed to find method handle for: " + (lookupKind == MethodLookupKind.CONSTRUCTOR ? targetClass.getName() : methodName), e);
-        }
+        return functionalInterface.cast(LookupCache.of(targetClass).functional(
+                functionalInterface, lookupKind, methodName, MethodType.methodType(returnType, parameterTypes)));
     }
 }
@@ -5,6 +5,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import java.lang.invoke.MethodHandle;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Utility class for method handle operations.
@@ -42,4 +45,69 @@ public final class MethodHandleUtils {
                 .find();
 
     }
+
+    /**
+     * Binds a method or constructor to a functional interface through {@link java.lang.invoke.LambdaMetafactory}.
+     * <p>
+     * The returned object calls the target directly and is inlined by the JIT like a method reference, unlike
+     * {@code invoke} on a {@link MethodHandle} stored in a field. For {@link MethodLookupKind#VIRTUAL} and
+     * {@link MethodLookupKind#SPECIAL} the receiver is the first argument of the interface method. Bindings are
+     * cached per class, so repeated calls return the same instance. A class from another module, including the
+     * unnamed module of another classloader, is bound through {@link java.lang.invoke.MethodHandleProxies} instead,
+     * which is not inlined and requires a public interface.
+     * </p>
+     *
+     * @param functionalInterface an interface with a single abstract method of matching arity
+     * @param targetClass         the class containing the method or constructor
+     * @param methodName          the name of the method (ignored for constructors)
+     * @param lookupKind          the lookup kind (e.g., VIRTUAL, STATIC, CONSTRUCTOR, SPECIAL)
+     * @param returnType          the method's return type (use {@code void.class} for constructors)
+     * @param parameterTypes      the method's parameter types
+     * @return an implementation of {@code functionalInterface}
+     * @throws ReflectionException if the method cannot be found or its type does not fit the interface
+     */
+    public static <F> F bind(Class<F> functionalInterface, Class<?> targetClass, String methodName,
+                             MethodLookupKind lookupKind, Class<?> returnType, Class<?>... parameterTypes) {
+        return MethodHandleFinder.create(targetClass)
+                .withMethodName(lookupKind == MethodLookupKind.CONSTRUCTOR ? "" : methodName)
+                .withLookupKind(lookupKind)
+                .withReturnType(returnType)
+                .withParameterTypes(parameterTypes == null ? new Class<?>[0] : parameterTypes)
+                .bind(functionalInterface);
+    }
+
+    /**
+     * Binds a no-argument instance method, or a one-argument static method or constructor, to a {@link Function}.
+     *
+     * @see #bind(Class, Class, String, MethodLookupKind, Class, Class[])
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> bindFunction(Class<?> targetClass, String methodName, MethodLookupKind lookupKind,
+                                                     Class<?> returnType, Class<?>... parameterTypes) {
+        return bind(Function.class, targetClass, methodName, lookupKind, returnType, parameterTypes);
+    }
+
+    /**
+     * Binds a no-argument static method or constructor to a {@link Supplier}.
+     *
+     * @see #bind(Class, Class, String, MethodLookupKind, Class, Class[])
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> bindSupplier(Class<?> targetClass, String methodName, MethodLookupKind lookupKind,
+                                               Class<?> returnType) {
+        return bind(Supplier.class, targetClass, methodName, lookupKind, returnType);
+    }
+
+    /**
+     * Binds a one-argument instance method, such as a setter, or a two-argument static method to a
+     * {@link BiConsumer}; a return value is discarded.
+     *
+     * @see #bind(Class, Class, String, MethodLookupKind, Class, Class[])
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> BiConsumer<T, U> bindBiConsumer(Class<?> targetClass, String methodName,
+                                                         MethodLookupKind lookupKind, Class<?> returnType,
+                                                         Class<?>... parameterTypes) {
+        return bind(BiConsumer.class, targetClass, methodName, lookupKind, returnType, parameterTypes);
+    }
 }
@@ -0,0 +1,40 @@
+package com.abbos.maang.core.stream;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * A stage that admits at most {@code maxConcurrency} callers at a time.
+ * <p>
+ * The permits are shared by every batch and every {@link CompiledMapper} built from the same stream, so the bound
+ * holds for the downstream service the stage calls, not just for a single run.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class AsyncStage implements MapperFunction<Object, Object> {
+    private final MapperFunction<Object, Object> mapper;
+    private final Semaphore permits;
+
+    AsyncStage(MapperFunction<Object, Object> mapper, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.mapper = mapper;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    @Override
+    public Object map(Object source) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MappingException("Interrupted while waiting for an async stage permit", e);
+        }
+        try {
+            return mapper.map(source);
+        } finally {
+            permits.release();
+        }
+    }
+}
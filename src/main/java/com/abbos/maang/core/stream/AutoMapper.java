@@ -0,0 +1,128 @@
+package com.abbos.maang.core.stream;
+
+import com.abbos.maang.core.reflection.FieldFinder;
+import com.abbos.maang.core.reflection.MethodHandleUtils;
+import com.abbos.maang.core.reflection.MethodLookupKind;
+import com.abbos.maang.core.reflection.ReflectionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reflective mapper from an arbitrary class to a record, matching source fields to record components by name and type.
+ * <p>
+ * The mapping plan is resolved once per (source, target) pair and cached: each component is read through a
+ * {@link VarHandle} obtained from {@link FieldFinder#findVarHandle(Class, String, Class)}, and all getters are
+ * folded into the arguments of the canonical constructor handle from {@link MethodHandleUtils}. The result is a
+ * single {@code (Object)Object} handle, so primitive components flow from field to constructor without boxing.
+ * <p>
+ * Each plan is its own hidden class, defined from {@code AutoMapperTemplate} with the handle in a {@code static final}
+ * field, so a call site that keeps seeing the same mapper inlines the plan instead of invoking a handle loaded from
+ * an instance field. Plans are cached in a {@link ClassValue} of the source type and are released with it instead of
+ * pinning its classloader.
+ *
+ * @param <S> the source type
+ * @param <T> the target record type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+abstract class AutoMapper<S, T> implements MapperFunction<S, T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Mappers by source type, then by target type.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, AutoMapper<?, ?>>> PLANS = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Class<?>, AutoMapper<?, ?>> computeValue(Class<?> sourceType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the cached mapper for the given pair, building its plan on first use.
+     *
+     * @param sourceType the class to read fields from
+     * @param targetType the record class to construct
+     * @return a thread-safe mapper
+     * @throws IllegalArgumentException if {@code targetType} is not a record
+     * @throws ReflectionException      if a record component has no matching field in {@code sourceType}
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> AutoMapper<S, T> of(Class<S> sourceType, Class<T> targetType) {
+        Objects.requireNonNull(sourceType, "sourceType must not be null");
+        Objects.requireNonNull(targetType, "targetType must not be null");
+        return (AutoMapper<S, T>) PLANS.get(sourceType)
+                .computeIfAbsent(targetType, key -> define(plan(sourceType, targetType)));
+    }
+
+    private static AutoMapper<?, ?> define(MethodHandle plan) {
+        try {
+            MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(Template.BYTES, plan, true);
+            return (AutoMapper<?, ?>) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new ReflectionException("Failed to define auto-mapper plan", t);
+        }
+    }
+
+    private static MethodHandle plan(Class<?> sourceType, Class<?> targetType) {
+        if (!targetType.isRecord()) {
+            throw new IllegalArgumentException("Target type must be a record: " + targetType.getName());
+        }
+        RecordComponent[] components = targetType.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        MethodHandle[] getters = new MethodHandle[components.length];
+
+        for (int i = 0; i < components.length; i++) {
+            String name = components[i].getName();
+            Class<?> type = components[i].getType();
+            Field field = FieldFinder.findField(sourceType, name,
+                                                f -> f.getType() == type && !Modifier.isStatic(f.getModifiers()));
+            if (field == null) {
+                throw new ReflectionException("No field '%s' of type %s in %s for record component of %s"
+                                                      .formatted(name, type.getName(), sourceType.getName(), targetType.getName()));
+            }
+            VarHandle handle = FieldFinder.findVarHandle(field.getDeclaringClass(), name, type);
+            types[i] = type;
+            getters[i] = handle.toMethodHandle(VarHandle.AccessMode.GET)
+                    .asType(MethodType.methodType(type, sourceType));
+        }
+
+        MethodHandle constructor = MethodHandleUtils.findMethodHandle(targetType, null, MethodLookupKind.CONSTRUCTOR,
+                                                                      void.class, types);
+        MethodHandle filtered = MethodHandles.filterArguments(constructor, 0, getters);
+        MethodHandle plan = MethodHandles.permuteArguments(filtered, MethodType.methodType(targetType, sourceType),
+                                                           new int[components.length]);
+        return plan.asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    /**
+     * Holder of the template's class file, read on first use.
+     */
+    private static final class Template {
+        static final byte[] BYTES;
+
+        static {
+            try (InputStream in = AutoMapper.class.getResourceAsStream("AutoMapperTemplate.class")) {
+                BYTES = Objects.requireNonNull(in, "AutoMapperTemplate.class not found").readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.abbos.maang.core.stream;
+
+import com.abbos.maang.core.reflection.ReflectionException;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Bytecode template of the hidden classes defined by {@link AutoMapper#of}; never loaded as itself.
+ * <p>
+ * Every hidden copy reads its plan from its own class data into a {@code static final} field. Keep this class free
+ * of lambdas and nested classes: they would still point at the template.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class AutoMapperTemplate extends AutoMapper<Object, Object> {
+    private static final MethodHandle PLAN;
+
+    static {
+        try {
+            PLAN = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Object map(Object source) {
+        try {
+            return (Object) PLAN.invokeExact(source);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new ReflectionException("Auto-mapping failed for " + source, t);
+        }
+    }
+}
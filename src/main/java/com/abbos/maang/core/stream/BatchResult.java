@@ -0,0 +1,38 @@
+package com.abbos.maang.core.stream;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link MapperStream#tryExecuteAll(List)}: mapped values plus a side buffer of failures.
+ * <p>
+ * {@code results} has one slot per source element; slots of failed elements hold {@code null}.
+ *
+ * @param results the mapped values, in source order
+ * @param errors  the failed elements, ordered by index
+ * @param <T>     the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public record BatchResult<T>(List<T> results, List<MappingError> errors) {
+
+    /**
+     * @return {@code true} if every element was mapped
+     */
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * @return the results
+     * @throws MappingException if any element failed; the first failure is attached as the cause
+     */
+    public List<T> orElseThrow() {
+        if (!errors.isEmpty()) {
+            MappingError first = errors.getFirst();
+            throw new MappingException("%d of %d elements failed, first at index %d in stage %d"
+                                               .formatted(errors.size(), results.size(), first.index(), first.stage()),
+                                       first.cause());
+        }
+        return results;
+    }
+}
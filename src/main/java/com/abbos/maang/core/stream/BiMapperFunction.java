@@ -0,0 +1,16 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * A mapping step that also receives a context object, such as a locale, a lookup table or a request scope.
+ *
+ * @param <T> the source type
+ * @param <C> the context type
+ * @param <R> the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface BiMapperFunction<T, C, R> {
+
+    R map(T source, C context);
+}
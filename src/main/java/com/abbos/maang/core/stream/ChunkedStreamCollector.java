@@ -0,0 +1,202 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * An allocation-light {@link Collector} that accumulates elements into chunked arrays and returns an
+ * unmodifiable {@link List}.
+ * <p>
+ * Unlike {@link ConcurrentStreamCollector}, which allocates a queue node per element, every split of a parallel
+ * stream appends into its own chain of arrays, so no two threads ever touch the same container and no per-element
+ * object is created. Combining two splits links their chains in O(1), and the finisher copies all chunks into one
+ * presized array with {@link System#arraycopy}. Because the left split is always linked before the right one, the
+ * {@linkplain #ordered() ordered} variant keeps encounter order without any lock.
+ * <p>
+ * Each chain starts with a small chunk on its first element and doubles from there, so a split allocates in
+ * proportion to what it receives, and an empty split allocates nothing. The size hint never sizes a chunk up front:
+ * it only trims the chunk that would grow past it, which makes a sequential stream of exactly that size end without
+ * slack.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * List<Employee> all = employees.parallelStream().collect(new ChunkedStreamCollector<>(employees.size()));
+ * }</pre>
+ *
+ * @param <T> the type of input elements to be collected
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class ChunkedStreamCollector<T> implements Collector<T, ChunkedStreamCollector.Chunks, List<T>> {
+
+    private static final int DEFAULT_CHUNK = 16;
+    private static final int MAX_CHUNK = 1 << 16;
+
+    private final int sizeHint;
+    private final Set<Characteristics> characteristics;
+
+    /**
+     * Creates an unordered collector with no size hint.
+     */
+    public ChunkedStreamCollector() {
+        this(0);
+    }
+
+    /**
+     * Creates an unordered collector.
+     *
+     * @param sizeHint the expected number of elements, or {@code 0} if unknown; trims the last chunk to fit it
+     */
+    public ChunkedStreamCollector(int sizeHint) {
+        this(sizeHint, Set.of(Characteristics.UNORDERED));
+    }
+
+    private ChunkedStreamCollector(int sizeHint, Set<Characteristics> characteristics) {
+        if (sizeHint < 0) {
+            throw new IllegalArgumentException("sizeHint must not be negative: " + sizeHint);
+        }
+        this.sizeHint = sizeHint;
+        this.characteristics = characteristics;
+    }
+
+    /**
+     * @return a collector that preserves encounter order
+     */
+    public static <T> ChunkedStreamCollector<T> ordered() {
+        return ordered(0);
+    }
+
+    /**
+     * @param sizeHint the expected number of elements, or {@code 0} if unknown
+     * @return a collector that preserves encounter order
+     */
+    public static <T> ChunkedStreamCollector<T> ordered(int sizeHint) {
+        return new ChunkedStreamCollector<>(sizeHint, Set.of());
+    }
+
+    /**
+     * Provides an empty chain for each split of the stream.
+     */
+    @Override
+    public Supplier<Chunks> supplier() {
+        return () -> new Chunks(sizeHint);
+    }
+
+    /**
+     * Appends an element to the last chunk of the chain.
+     */
+    @Override
+    public BiConsumer<Chunks, T> accumulator() {
+        return Chunks::add;
+    }
+
+    /**
+     * Links the right chain after the left one without copying.
+     */
+    @Override
+    public BinaryOperator<Chunks> combiner() {
+        return Chunks::link;
+    }
+
+    /**
+     * Copies all chunks into a single array and wraps it as an unmodifiable {@link List}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<Chunks, List<T>> finisher() {
+        return chunks -> Collections.unmodifiableList(Arrays.asList((T[]) chunks.toArray()));
+    }
+
+    /**
+     * Specifies the characteristics of this collector.
+     * <ul>
+     *   <li>{@link Characteristics#UNORDERED} - only for the default variant; {@link #ordered()} declares none.</li>
+     * </ul>
+     *
+     * @return a set of characteristics for this collector
+     */
+    @Override
+    public Set<Characteristics> characteristics() {
+        return characteristics;
+    }
+
+    /**
+     * A singly linked chain of arrays owned by one split of the stream.
+     */
+    public static final class Chunks {
+        private final int sizeHint;
+        private Node head;
+        private Node tail;
+        private long size;
+
+        Chunks(int sizeHint) {
+            this.sizeHint = sizeHint;
+        }
+
+        void add(Object element) {
+            Node last = tail;
+            if (last == null || last.count == last.values.length) {
+                last = grow(last);
+            }
+            last.values[last.count++] = element;
+            size++;
+        }
+
+        private Node grow(Node last) {
+            int capacity = last == null ? DEFAULT_CHUNK : Math.min(last.values.length << 1, MAX_CHUNK);
+            if (size < sizeHint) {
+                capacity = (int) Math.min(capacity, sizeHint - size);
+            }
+            Node node = new Node(capacity);
+            if (last == null) {
+                head = node;
+            } else {
+                last.next = node;
+            }
+            return tail = node;
+        }
+
+        Chunks link(Chunks right) {
+            if (right.size != 0) {
+                if (head == null) {
+                    head = right.head;
+                } else {
+                    tail.next = right.head;
+                }
+                tail = right.tail;
+                size += right.size;
+            }
+            return this;
+        }
+
+        Object[] toArray() {
+            if (size > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Too many elements for a List: " + size);
+            }
+            Object[] result = new Object[(int) size];
+            int offset = 0;
+            for (Node node = head; node != null; node = node.next) {
+                System.arraycopy(node.values, 0, result, offset, node.count);
+                offset += node.count;
+            }
+            return result;
+        }
+    }
+
+    private static final class Node {
+        private final Object[] values;
+        private int count;
+        private Node next;
+
+        Node(int capacity) {
+            this.values = new Object[capacity];
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.abbos.maang.core.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * An immutable, thread-safe mapping pipeline produced by {@link MapperStream#compile()}.
+ * <p>
+ * All stages are fused into a single {@link MethodHandle} chain of type {@code (Object)Object}, so a call to
+ * {@link #map(Object)} is one {@code invokeExact} instead of a loop dispatching through every stage. The JIT only
+ * constant-folds {@code static final} fields (and those of records and hidden classes), so every compiled pipeline
+ * is its own hidden class defined from {@code CompiledMapperTemplate}, with the chain in a {@code static final}
+ * field read from its class data. A call site that keeps seeing the same mapper, such as one held in a
+ * {@code static final} field, inlines the whole chain end to end.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * static final CompiledMapper<User, UserDto> TO_DTO = MapperStream.from(User.class)
+ *         .map(u -> new UserDto(u.name, u.age))
+ *         .compile();
+ * }</pre>
+ *
+ * @param <S> the source type
+ * @param <T> the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public abstract class CompiledMapper<S, T> implements MapperFunction<S, T> {
+
+    private static final MethodHandle MAP;
+    private static final MethodHandle FAIL;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MAP = lookup.findVirtual(MapperFunction.class, "map", MethodType.methodType(Object.class, Object.class));
+            FAIL = lookup.findStatic(CompiledMapper.class, "fail",
+                                     MethodType.methodType(Object.class, Supplier.class, RuntimeException.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Smallest chunk a parallel batch is split into; below this the fork/join overhead outweighs the work.
+     */
+    private static final int MIN_CHUNK = 1024;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final MapperFunction<Object, Object>[] stages;
+    private final boolean parallel;
+
+    CompiledMapper(MapperFunction<Object, Object>[] stages, boolean parallel) {
+        this.stages = stages;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Fuses the given stages into a single handle and defines the hidden class that holds it.
+     * <p>
+     * Each call defines one hidden class, which is unloaded together with its last instance.
+     *
+     * @param operations the stages, in execution order
+     * @param failure    supplies the exception thrown when any stage fails, or {@code null} to propagate the original one
+     * @param parallel   whether batch calls are split across the common {@link ForkJoinPool}
+     * @return a compiled pipeline
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> CompiledMapper<S, T> of(List<MapperFunction<Object, Object>> operations,
+                                          Supplier<? extends RuntimeException> failure, boolean parallel) {
+        MethodHandle pipeline = MethodHandles.identity(Object.class);
+        for (MapperFunction<Object, Object> op : operations) {
+            pipeline = MethodHandles.filterReturnValue(pipeline, MAP.bindTo(Objects.requireNonNull(op)));
+        }
+        if (failure != null) {
+            pipeline = MethodHandles.catchException(pipeline, RuntimeException.class, FAIL.bindTo(failure));
+        }
+        return define(pipeline, operations.toArray(MapperFunction[]::new), parallel);
+    }
+
+    /**
+     * Defines the hidden class holding an already built {@code (Object)Object} pipeline.
+     *
+     * @param pipeline the handle run by {@link #map(Object)}
+     * @param stages   the stages {@link #tryMapAll(List)} runs one by one, equivalent to {@code pipeline}
+     */
+    @SuppressWarnings("unchecked")
+    static <S, T> CompiledMapper<S, T> define(MethodHandle pipeline, MapperFunction<Object, Object>[] stages,
+                                              boolean parallel) {
+        try {
+            MethodHandles.Lookup hidden = LOOKUP.defineHiddenClassWithClassData(Template.BYTES, pipeline, true);
+            MethodHandle constructor = hidden.findConstructor(
+                    hidden.lookupClass(), MethodType.methodType(void.class, MapperFunction[].class, boolean.class));
+            return (CompiledMapper<S, T>) constructor.invoke(stages, parallel);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to define compiled pipeline", t);
+        }
+    }
+
+    /**
+     * Exception handler of the fused pipeline, see {@link MapperStream#onFailure(Supplier)}.
+     */
+    @SuppressWarnings("unused")
+    private static Object fail(Supplier<? extends RuntimeException> failure, RuntimeException cause, Object source) {
+        throw replace(failure, cause);
+    }
+
+    /**
+     * Returns the exception from {@code failure} with {@code cause} attached as suppressed.
+     * <p>
+     * A fresh exception has no suppressed ones yet. A shared instance that records suppression keeps only the first
+     * cause, so it does not grow by one exception per failed record.
+     */
+    static RuntimeException replace(Supplier<? extends RuntimeException> failure, RuntimeException cause) {
+        RuntimeException ex = failure.get();
+        if (ex != cause && ex.getSuppressed().length == 0) {
+            ex.addSuppressed(cause);
+        }
+        return ex;
+    }
+
+    /**
+     * Runs the fused pipeline against the given source.
+     *
+     * @param source the object to map
+     * @return the mapped result
+     */
+    @Override
+    public abstract T map(S source);
+
+    /**
+     * Maps every element of the given list.
+     *
+     * @param sources the objects to map
+     * @return an unmodifiable list of results, in the same order as {@code sources}
+     * @throws NullPointerException if {@code sources} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> mapAll(List<? extends S> sources) {
+        Object[] in = sources.toArray();
+        Object[] out = new Object[in.length];
+        mapRange(in, out, in.length);
+        return Collections.unmodifiableList(Arrays.asList((T[]) out));
+    }
+
+    /**
+     * Maps {@code sources[i]} into {@code results[i]} for every index of {@code sources}.
+     * <p>
+     * No intermediate collection is allocated, which makes this the cheapest way to convert large batches.
+     *
+     * @param sources the objects to map
+     * @param results the presized destination, at least as long as {@code sources}
+     * @return {@code results}
+     * @throws IllegalArgumentException if {@code results} is shorter than {@code sources}
+     */
+    public T[] mapAll(S[] sources, T[] results) {
+        if (results.length < sources.length) {
+            throw new IllegalArgumentException("results length %d is smaller than sources length %d"
+                                                       .formatted(results.length, sources.length));
+        }
+        mapRange(sources, results, sources.length);
+        return results;
+    }
+
+    private void mapRange(Object[] in, Object[] out, int length) {
+        if (parallel && length > MIN_CHUNK) {
+            int threshold = Math.max(MIN_CHUNK, length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            ForkJoinPool.commonPool().invoke(new MapAction(in, out, null, 0, length, threshold));
+        } else {
+            mapSequential(in, out, 0, length);
+        }
+    }
+
+    /**
+     * Runs the fused pipeline for {@code in[from..to)} into the same slots of {@code out}.
+     */
+    abstract void mapSequential(Object[] in, Object[] out, int from, int to);
+
+    /**
+     * Maps every element without throwing: a failing element leaves {@code null} in its result slot and is recorded
+     * as a {@link MappingError} with its index, the failing stage and the cause. The batch always runs to the end.
+     * <p>
+     * Stages run one by one instead of through the fused handle, so the failing stage can be reported; the configured
+     * failure supplier is not used.
+     *
+     * @param sources the objects to map
+     * @return the results and the failures
+     */
+    @SuppressWarnings("unchecked")
+    public BatchResult<T> tryMapAll(List<? extends S> sources) {
+        Object[] in = sources.toArray();
+        Object[] out = new Object[in.length];
+        Queue<MappingError> errors = new ConcurrentLinkedQueue<>();
+        if (parallel && in.length > MIN_CHUNK) {
+            int threshold = Math.max(MIN_CHUNK, in.length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            ForkJoinPool.commonPool().invoke(new MapAction(in, out, errors, 0, in.length, threshold));
+        } else {
+            tryMapSequential(in, out, errors, 0, in.length);
+        }
+        List<MappingError> sorted = new ArrayList<>(errors);
+        sorted.sort(Comparator.comparingInt(MappingError::index));
+        return new BatchResult<>(Collections.unmodifiableList(Arrays.asList((T[]) out)), List.copyOf(sorted));
+    }
+
+    private void tryMapSequential(Object[] in, Object[] out, Queue<MappingError> errors, int from, int to) {
+        MapperFunction<Object, Object>[] stages = this.stages;
+        for (int i = from; i < to; i++) {
+            Object value = in[i];
+            int stage = 0;
+            try {
+                for (; stage < stages.length; stage++) {
+                    value = stages[stage].map(value);
+                }
+                out[i] = value;
+            } catch (RuntimeException e) {
+                errors.add(new MappingError(i, stage, e));
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if batch calls run on the common {@link ForkJoinPool}
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @return the number of fused stages
+     */
+    public int stages() {
+        return stages.length;
+    }
+
+    /**
+     * Splits a batch in halves until it is small enough to map directly.
+     * A non-null {@code errors} queue switches leaves to {@link #tryMapSequential}.
+     */
+    private final class MapAction extends RecursiveAction {
+        private final Object[] in;
+        private final Object[] out;
+        private final Queue<MappingError> errors;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        MapAction(Object[] in, Object[] out, Queue<MappingError> errors, int from, int to, int threshold) {
+            this.in = in;
+            this.out = out;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                if (errors == null) {
+                    mapSequential(in, out, from, to);
+                } else {
+                    tryMapSequential(in, out, errors, from, to);
+                }
+            } else {
+                int mid = from + (to - from) / 2;
+                invokeAll(new MapAction(in, out, errors, from, mid, threshold),
+                          new MapAction(in, out, errors, mid, to, threshold));
+            }
+        }
+    }
+
+    /**
+     * Holder of the template's class file, read on first compilation.
+     */
+    private static final class Template {
+        static final byte[] BYTES;
+
+        static {
+            try (InputStream in = CompiledMapper.class.getResourceAsStream("CompiledMapperTemplate.class")) {
+                BYTES = Objects.requireNonNull(in, "CompiledMapperTemplate.class not found").readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
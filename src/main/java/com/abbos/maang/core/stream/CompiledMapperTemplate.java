@@ -0,0 +1,55 @@
+package com.abbos.maang.core.stream;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Bytecode template of the hidden classes defined by {@link CompiledMapper#of}; never loaded as itself.
+ * <p>
+ * Every hidden copy reads its fused pipeline from its own class data into a {@code static final} field, which the
+ * JIT treats as a constant. Keep this class free of lambdas and nested classes: they would still point at the
+ * template.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class CompiledMapperTemplate extends CompiledMapper<Object, Object> {
+    private static final MethodHandle PIPELINE;
+
+    static {
+        try {
+            PIPELINE = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    CompiledMapperTemplate(MapperFunction<Object, Object>[] stages, boolean parallel) {
+        super(stages, parallel);
+    }
+
+    @Override
+    public Object map(Object source) {
+        try {
+            return (Object) PIPELINE.invokeExact(source);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    @Override
+    void mapSequential(Object[] in, Object[] out, int from, int to) {
+        try {
+            for (int i = from; i < to; i++) {
+                out[i] = (Object) PIPELINE.invokeExact(in[i]);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
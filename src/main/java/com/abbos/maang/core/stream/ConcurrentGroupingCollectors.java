@@ -0,0 +1,175 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Count and sum aggregations by key that scale with the number of threads of a parallel stream.
+ * <p>
+ * {@code Collectors.groupingBy} merges a fresh map at every split, and {@code groupingByConcurrent} with a
+ * {@code counting()} downstream replaces a boxed {@code Long} inside a shared {@link ConcurrentHashMap} for every
+ * element. The object-keyed collectors here are {@link Collector.Characteristics#CONCURRENT concurrent}: all threads
+ * share one {@link ConcurrentHashMap}, whose bins are locked independently, and each group holds a
+ * {@link LongAdder} or {@link DoubleAdder} whose cells spread updates to the same hot key over several cache lines.
+ * After a group exists, accumulating into it is a lock-free {@code get} plus an adder update.
+ * <p>
+ * The {@code int}-keyed variants never box the group key during accumulation: each split counts into its own
+ * open-addressing {@code int -> long} table, and tables are merged by the combiner. Only the distinct keys are boxed,
+ * once, when the result map is built.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Map<String, Long> perDepartment = employees.parallelStream()
+ *         .collect(ConcurrentGroupingCollectors.countingBy(Employee::department));
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class ConcurrentGroupingCollectors {
+
+    private static final Collector.Characteristics[] CONCURRENT = {
+            Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED
+    };
+    private static final Collector.Characteristics[] UNORDERED = {Collector.Characteristics.UNORDERED};
+
+    private ConcurrentGroupingCollectors() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @param classifier maps an element to its group
+     * @return a concurrent collector counting the elements of each group
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, Long>> countingBy(Function<? super T, ? extends K> classifier) {
+        Objects.requireNonNull(classifier, "classifier must not be null");
+        return Collector.of(ConcurrentHashMap<K, LongAdder>::new,
+                            (map, element) -> longAdder(map, classifier.apply(element)).increment(),
+                            ConcurrentGroupingCollectors::mergeLongs,
+                            ConcurrentGroupingCollectors::finishLongs,
+                            CONCURRENT);
+    }
+
+    /**
+     * @param classifier maps an element to its group
+     * @param value      the value summed per group
+     * @return a concurrent collector summing {@code value} per group
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, Long>> summingLongBy(Function<? super T, ? extends K> classifier,
+                                                                             ToLongFunction<? super T> value) {
+        Objects.requireNonNull(classifier, "classifier must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        return Collector.of(ConcurrentHashMap<K, LongAdder>::new,
+                            (map, element) -> longAdder(map, classifier.apply(element)).add(value.applyAsLong(element)),
+                            ConcurrentGroupingCollectors::mergeLongs,
+                            ConcurrentGroupingCollectors::finishLongs,
+                            CONCURRENT);
+    }
+
+    /**
+     * @param classifier maps an element to its group
+     * @param value      the value summed per group
+     * @return a concurrent collector summing {@code value} per group
+     */
+    public static <T, K> Collector<T, ?, ConcurrentMap<K, Double>> summingDoubleBy(Function<? super T, ? extends K> classifier,
+                                                                                 ToDoubleFunction<? super T> value) {
+        Objects.requireNonNull(classifier, "classifier must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        return Collector.of(ConcurrentHashMap<K, DoubleAdder>::new,
+                            (map, element) -> doubleAdder(map, classifier.apply(element)).add(value.applyAsDouble(element)),
+                            (left, right) -> {
+                                right.forEach((key, adder) -> doubleAdder(left, key).add(adder.sum()));
+                                return left;
+                            },
+                            map -> {
+                                ConcurrentMap<K, Double> result = new ConcurrentHashMap<>(map.size());
+                                map.forEach((key, adder) -> result.put(key, adder.sum()));
+                                return result;
+                            },
+                            CONCURRENT);
+    }
+
+    /**
+     * Counts matching and non-matching elements on two shared {@link LongAdder}s, without any map lookups.
+     *
+     * @param predicate the partitioning predicate
+     * @return a concurrent collector producing the counts under {@code true} and {@code false}
+     */
+    public static <T> Collector<T, ?, Map<Boolean, Long>> partitioningCount(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate must not be null");
+        return Collector.of(() -> new LongAdder[]{new LongAdder(), new LongAdder()},
+                            (counts, element) -> counts[predicate.test(element) ? 1 : 0].increment(),
+                            (left, right) -> {
+                                left[0].add(right[0].sum());
+                                left[1].add(right[1].sum());
+                                return left;
+                            },
+                            counts -> Map.of(false, counts[0].sum(), true, counts[1].sum()),
+                            CONCURRENT);
+    }
+
+    /**
+     * Primitive-keyed variant of {@link #countingBy(Function)}.
+     *
+     * @param classifier maps an element to its {@code int} group
+     * @return a collector counting the elements of each group
+     */
+    public static <T> Collector<T, ?, Map<Integer, Long>> countingByInt(ToIntFunction<? super T> classifier) {
+        Objects.requireNonNull(classifier, "classifier must not be null");
+        return Collector.of(IntLongHashMap::new,
+                            (map, element) -> map.add(classifier.applyAsInt(element), 1),
+                            IntLongHashMap::merge,
+                            IntLongHashMap::toMap,
+                            UNORDERED);
+    }
+
+    /**
+     * Primitive-keyed variant of {@link #summingLongBy(Function, ToLongFunction)}.
+     *
+     * @param classifier maps an element to its {@code int} group
+     * @param value      the value summed per group
+     * @return a collector summing {@code value} per group
+     */
+    public static <T> Collector<T, ?, Map<Integer, Long>> summingLongByInt(ToIntFunction<? super T> classifier,
+                                                                          ToLongFunction<? super T> value) {
+        Objects.requireNonNull(classifier, "classifier must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+        return Collector.of(IntLongHashMap::new,
+                            (map, element) -> map.add(classifier.applyAsInt(element), value.applyAsLong(element)),
+                            IntLongHashMap::merge,
+                            IntLongHashMap::toMap,
+                            UNORDERED);
+    }
+
+    private static <K> LongAdder longAdder(ConcurrentHashMap<K, LongAdder> map, K key) {
+        LongAdder adder = map.get(key);
+        return adder != null ? adder : map.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    private static <K> DoubleAdder doubleAdder(ConcurrentHashMap<K, DoubleAdder> map, K key) {
+        DoubleAdder adder = map.get(key);
+        return adder != null ? adder : map.computeIfAbsent(key, k -> new DoubleAdder());
+    }
+
+    private static <K> ConcurrentHashMap<K, LongAdder> mergeLongs(ConcurrentHashMap<K, LongAdder> left,
+                                                                 ConcurrentHashMap<K, LongAdder> right) {
+        right.forEach((key, adder) -> longAdder(left, key).add(adder.sum()));
+        return left;
+    }
+
+    private static <K> ConcurrentMap<K, Long> finishLongs(ConcurrentHashMap<K, LongAdder> map) {
+        ConcurrentMap<K, Long> result = new ConcurrentHashMap<>(map.size());
+        map.forEach((key, adder) -> result.put(key, adder.sum()));
+        return result;
+    }
+}
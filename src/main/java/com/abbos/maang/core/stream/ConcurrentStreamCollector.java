@@ -18,6 +18,7 @@ import java.util.stream.Collector;
  *
  * @param <T> the type of input elements to be collected
  * @author Aliabbos Ashurov
+ * @see ChunkedStreamCollector for an allocation-light alternative
  */
 public class ConcurrentStreamCollector<T> implements Collector<T, ConcurrentLinkedQueue<T>, List<T>> {
 
@@ -0,0 +1,37 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code double} to an object without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromDouble()} starts a pipeline of such stages.
+ *
+ * @param <R> the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface DoubleMapperFunction<R> {
+
+    R map(double source);
+
+    default <V> DoubleMapperFunction<V> andThen(MapperFunction<? super R, ? extends V> after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleToIntMapperFunction andThenToInt(ToIntMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleToLongMapperFunction andThenToLong(ToLongMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleUnaryMapperFunction andThenToDouble(ToDoubleMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+}
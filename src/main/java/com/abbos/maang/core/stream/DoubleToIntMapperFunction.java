@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code double} to a primitive {@code int} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromDouble()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface DoubleToIntMapperFunction {
+
+    int map(double source);
+
+    default DoubleToIntMapperFunction andThen(IntUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleToLongMapperFunction andThenToLong(IntToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleUnaryMapperFunction andThenToDouble(IntToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default <V> DoubleMapperFunction<V> andThenToObj(IntMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+}
@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code double} to a primitive {@code long} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromDouble()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface DoubleToLongMapperFunction {
+
+    long map(double source);
+
+    default DoubleToLongMapperFunction andThen(LongUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleToIntMapperFunction andThenToInt(LongToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleUnaryMapperFunction andThenToDouble(LongToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default <V> DoubleMapperFunction<V> andThenToObj(LongMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+}
@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code double} to a primitive {@code double} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromDouble()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface DoubleUnaryMapperFunction {
+
+    double map(double source);
+
+    default DoubleUnaryMapperFunction andThen(DoubleUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleToIntMapperFunction andThenToInt(DoubleToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default DoubleToLongMapperFunction andThenToLong(DoubleToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+
+    default <V> DoubleMapperFunction<V> andThenToObj(DoubleMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (double source) -> after.map(map(source));
+    }
+}
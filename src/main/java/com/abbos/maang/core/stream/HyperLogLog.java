@@ -0,0 +1,192 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog cardinality sketch: counts distinct elements in {@code 2^precision} bytes instead of a hash set.
+ * <p>
+ * Each element is hashed to 64 bits; the top {@code precision} bits select a register and the register keeps the
+ * longest run of leading zeros seen in the remaining bits. The estimate has a relative standard error of
+ * {@code 1.04 / sqrt(2^precision)}, e.g. {@code 0.8%} at precision 14 (16 KiB). Small cardinalities switch to linear
+ * counting, which is nearly exact.
+ * <p>
+ * Sketches of the same precision {@link #merge merge} by taking the register-wise maximum, which is what a parallel
+ * stream's combiner or a cross-node reduction needs, and {@link #toBytes() serialize} to six bits per register.
+ * Objects are hashed through {@link Object#hashCode()}, so elements with equal hash codes count once; use
+ * {@link #addHash(long)} with a stronger 64-bit hash when that matters.
+ *
+ * @author Aliabbos Ashurov
+ * @see SketchCollectors
+ * @since 2026-10-17
+ */
+public final class HyperLogLog {
+    private static final int MIN_PRECISION = 4;
+    private static final int MAX_PRECISION = 18;
+    private static final int BITS = 6;
+
+    private final int precision;
+    private final byte[] registers;
+
+    private HyperLogLog(int precision, byte[] registers) {
+        this.precision = precision;
+        this.registers = registers;
+    }
+
+    /**
+     * @param precision register bits, between 4 and 18
+     * @return an empty sketch with {@code 2^precision} registers
+     */
+    public static HyperLogLog create(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be in [%d, %d]: %d"
+                                                       .formatted(MIN_PRECISION, MAX_PRECISION, precision));
+        }
+        return new HyperLogLog(precision, new byte[1 << precision]);
+    }
+
+    /**
+     * @param relativeError target relative standard error, e.g. {@code 0.01}
+     * @return an empty sketch with the smallest precision that meets it
+     */
+    public static HyperLogLog forError(double relativeError) {
+        if (!(relativeError > 0 && relativeError < 1)) {
+            throw new IllegalArgumentException("relativeError must be in (0, 1): " + relativeError);
+        }
+        double registers = Math.pow(1.04 / relativeError, 2);
+        int precision = 64 - Long.numberOfLeadingZeros((long) Math.ceil(registers) - 1);
+        return create(Math.min(MAX_PRECISION, Math.max(MIN_PRECISION, precision)));
+    }
+
+    public void add(Object element) {
+        addHash(mix(element == null ? 0 : element.hashCode()));
+    }
+
+    public void add(long value) {
+        addHash(mix(value));
+    }
+
+    /**
+     * @param hash a well-mixed 64-bit hash of the element
+     */
+    public void addHash(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        // the sentinel bit caps the run at 64 - precision + 1
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * @param other a sketch of the same precision, left unchanged
+     * @return this sketch, now covering the elements of both
+     */
+    public HyperLogLog merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge precision %d into %d".formatted(other.precision, precision));
+        }
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+        return this;
+    }
+
+    /**
+     * @return the estimated number of distinct elements added
+     */
+    public long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Double.longBitsToDouble((1023L - register) << 52);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * @return the relative standard error of {@link #estimate()}
+     */
+    public double relativeError() {
+        return 1.04 / Math.sqrt(registers.length);
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * @return one precision byte followed by the registers packed into six bits each
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[1 + (registers.length * BITS + 7) / 8];
+        bytes[0] = (byte) precision;
+        long bitIndex = 0;
+        for (byte register : registers) {
+            for (int b = BITS - 1; b >= 0; b--, bitIndex++) {
+                if ((register >>> b & 1) != 0) {
+                    bytes[1 + (int) (bitIndex >>> 3)] |= (byte) (0x80 >>> (bitIndex & 7));
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @param bytes the output of {@link #toBytes()}
+     * @return the sketch it encodes
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        HyperLogLog sketch = create(bytes[0]);
+        if (bytes.length != 1 + (sketch.registers.length * BITS + 7) / 8) {
+            throw new IllegalArgumentException("Truncated HyperLogLog of precision " + bytes[0]);
+        }
+        long bitIndex = 0;
+        for (int i = 0; i < sketch.registers.length; i++) {
+            int register = 0;
+            for (int b = 0; b < BITS; b++, bitIndex++) {
+                register = register << 1 | (bytes[1 + (int) (bitIndex >>> 3)] >>> (7 - (bitIndex & 7)) & 1);
+            }
+            sketch.registers[i] = (byte) register;
+        }
+        return sketch;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof HyperLogLog other && precision == other.precision && Arrays.equals(registers, other.registers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * precision + Arrays.hashCode(registers);
+    }
+
+    private static double alpha(int m) {
+        return switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+    }
+
+    /**
+     * MurmurHash3 finalizer: spreads every input bit over all 64 output bits.
+     */
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
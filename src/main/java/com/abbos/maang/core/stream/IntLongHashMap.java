@@ -0,0 +1,92 @@
+package com.abbos.maang.core.stream;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal open-addressing {@code int -> long} accumulator used by the primitive-keyed grouping collectors.
+ * <p>
+ * Not thread-safe: each split of a stream owns one instance and instances are merged by the combiner.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class IntLongHashMap {
+
+    private int[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int size;
+
+    IntLongHashMap() {
+        this(16);
+    }
+
+    private IntLongHashMap(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    void add(int key, long delta) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                values[slot] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > (keys.length >>> 1)) {
+            resize();
+        }
+    }
+
+    IntLongHashMap merge(IntLongHashMap other) {
+        IntLongHashMap into = size >= other.size ? this : other;
+        IntLongHashMap from = into == this ? other : this;
+        for (int i = 0; i < from.keys.length; i++) {
+            if (from.used[i]) {
+                into.add(from.keys[i], from.values[i]);
+            }
+        }
+        return into;
+    }
+
+    /**
+     * Boxes each distinct key once; no per-element boxing happens before this point.
+     */
+    Map<Integer, Long> toMap() {
+        Map<Integer, Long> result = HashMap.newHashMap(size);
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                result.put(keys[i], values[i]);
+            }
+        }
+        return result;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        keys = new int[oldKeys.length << 1];
+        values = new long[keys.length];
+        used = new boolean[keys.length];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                add(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
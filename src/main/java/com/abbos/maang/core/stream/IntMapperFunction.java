@@ -0,0 +1,37 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code int} to an object without boxing. It is the primitive counterpart of {@link MapperFunction},
+ * not a subtype of it; {@link MapperStream#fromInt()} starts a pipeline of such stages.
+ *
+ * @param <R> the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface IntMapperFunction<R> {
+
+    R map(int source);
+
+    default <V> IntMapperFunction<V> andThen(MapperFunction<? super R, ? extends V> after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntUnaryMapperFunction andThenToInt(ToIntMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntToLongMapperFunction andThenToLong(ToLongMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntToDoubleMapperFunction andThenToDouble(ToDoubleMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+}
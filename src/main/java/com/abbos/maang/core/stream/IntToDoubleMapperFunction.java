@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code int} to a primitive {@code double} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromInt()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface IntToDoubleMapperFunction {
+
+    double map(int source);
+
+    default IntToDoubleMapperFunction andThen(DoubleUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntUnaryMapperFunction andThenToInt(DoubleToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntToLongMapperFunction andThenToLong(DoubleToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default <V> IntMapperFunction<V> andThenToObj(DoubleMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+}
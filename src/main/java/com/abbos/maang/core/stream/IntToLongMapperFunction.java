@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code int} to a primitive {@code long} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromInt()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface IntToLongMapperFunction {
+
+    long map(int source);
+
+    default IntToLongMapperFunction andThen(LongUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntUnaryMapperFunction andThenToInt(LongToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntToDoubleMapperFunction andThenToDouble(LongToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default <V> IntMapperFunction<V> andThenToObj(LongMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+}
@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code int} to a primitive {@code int} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromInt()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface IntUnaryMapperFunction {
+
+    int map(int source);
+
+    default IntUnaryMapperFunction andThen(IntUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntToLongMapperFunction andThenToLong(IntToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default IntToDoubleMapperFunction andThenToDouble(IntToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+
+    default <V> IntMapperFunction<V> andThenToObj(IntMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (int source) -> after.map(map(source));
+    }
+}
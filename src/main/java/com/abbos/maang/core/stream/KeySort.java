@@ -0,0 +1,242 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Stable sorts that evaluate an expensive key exactly once per record (decorate-sort-undecorate).
+ * <p>
+ * {@code Comparator.comparingInt(key)} calls {@code key} twice per comparison, i.e. {@code O(n log n)} times. These
+ * methods first extract every key into a primitive side array, sort that array together with the record indices, and
+ * finally reorder the records, so the key runs exactly {@code n} times and the sort itself never touches the records.
+ * <ul>
+ *   <li>{@code int} keys are packed with their index into one {@code long} ({@code key << 32 | index}) and sorted with
+ *   {@link Arrays#sort(long[])}; the index in the low bits breaks ties, which makes the result stable.</li>
+ *   <li>{@code long} and {@code double} keys are sorted with a stable merge sort over a {@code long[]} key array and an
+ *   {@code int[]} index array.</li>
+ * </ul>
+ * The {@code parallel*} variants extract keys with {@link Arrays#parallelSetAll} and sort on the common
+ * {@link ForkJoinPool}; they are stable too.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * KeySort.sortByInt(words, word -> countVowels(word));  // countVowels runs words.length times
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class KeySort {
+
+    private static final int INSERTION_THRESHOLD = 32;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private KeySort() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Stable in-place sort by a {@code int} key, evaluated once per record.
+     */
+    public static <T> void sortByInt(T[] records, ToIntFunction<? super T> key) {
+        sortByInt(records, key, false);
+    }
+
+    /**
+     * Parallel variant of {@link #sortByInt(Object[], ToIntFunction)}; also stable.
+     */
+    public static <T> void parallelSortByInt(T[] records, ToIntFunction<? super T> key) {
+        sortByInt(records, key, true);
+    }
+
+    /**
+     * Stable in-place sort by a {@code long} key, evaluated once per record.
+     */
+    public static <T> void sortByLong(T[] records, ToLongFunction<? super T> key) {
+        sortByLong(records, key, false);
+    }
+
+    /**
+     * Parallel variant of {@link #sortByLong(Object[], ToLongFunction)}; also stable.
+     */
+    public static <T> void parallelSortByLong(T[] records, ToLongFunction<? super T> key) {
+        sortByLong(records, key, true);
+    }
+
+    /**
+     * Keys are ordered as by {@link Double#compare(double, double)}.
+     */
+    public static <T> void sortByDouble(T[] records, ToDoubleFunction<? super T> key) {
+        Objects.requireNonNull(key, "key must not be null");
+        sortByLong(records, record -> SortKeys.sortable(key.applyAsDouble(record)), false);
+    }
+
+    /**
+     * Keys are ordered as by {@link Double#compare(double, double)}.
+     */
+    public static <T> void parallelSortByDouble(T[] records, ToDoubleFunction<? super T> key) {
+        Objects.requireNonNull(key, "key must not be null");
+        sortByLong(records, record -> SortKeys.sortable(key.applyAsDouble(record)), true);
+    }
+
+    /**
+     * Sorts a modifiable list in place by an {@code int} key.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sortByInt(List<T> records, ToIntFunction<? super T> key) {
+        Object[] array = records.toArray();
+        sortByInt((T[]) array, key, false);
+        writeBack(records, array);
+    }
+
+    /**
+     * Sorts a modifiable list in place by a {@code long} key.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sortByLong(List<T> records, ToLongFunction<? super T> key) {
+        Object[] array = records.toArray();
+        sortByLong((T[]) array, key, false);
+        writeBack(records, array);
+    }
+
+    private static <T> void sortByInt(T[] records, ToIntFunction<? super T> key, boolean parallel) {
+        Objects.requireNonNull(records, "records must not be null");
+        Objects.requireNonNull(key, "key must not be null");
+        long[] packed = new long[records.length];
+        if (parallel) {
+            Arrays.parallelSetAll(packed, i -> (long) key.applyAsInt(records[i]) << 32 | i);
+            Arrays.parallelSort(packed);
+        } else {
+            for (int i = 0; i < records.length; i++) {
+                packed[i] = (long) key.applyAsInt(records[i]) << 32 | i;
+            }
+            Arrays.sort(packed);
+        }
+        T[] copy = records.clone();
+        for (int i = 0; i < packed.length; i++) {
+            records[i] = copy[(int) packed[i]];
+        }
+    }
+
+    private static <T> void sortByLong(T[] records, ToLongFunction<? super T> key, boolean parallel) {
+        Objects.requireNonNull(records, "records must not be null");
+        Objects.requireNonNull(key, "key must not be null");
+        int n = records.length;
+        long[] keys = new long[n];
+        int[] indices = new int[n];
+        long[] keyBuffer = new long[n];
+        int[] indexBuffer = new int[n];
+        if (parallel) {
+            Arrays.parallelSetAll(keys, i -> key.applyAsLong(records[i]));
+            Arrays.parallelSetAll(indices, i -> i);
+            ForkJoinPool.commonPool().invoke(new MergeSortAction(keys, indices, keyBuffer, indexBuffer, 0, n));
+        } else {
+            for (int i = 0; i < n; i++) {
+                keys[i] = key.applyAsLong(records[i]);
+                indices[i] = i;
+            }
+            mergeSort(keys, indices, keyBuffer, indexBuffer, 0, n);
+        }
+        T[] copy = records.clone();
+        for (int i = 0; i < n; i++) {
+            records[i] = copy[indices[i]];
+        }
+    }
+
+    private static void writeBack(List<?> records, Object[] sorted) {
+        @SuppressWarnings("unchecked")
+        ListIterator<Object> iterator = (ListIterator<Object>) records.listIterator();
+        for (Object element : sorted) {
+            iterator.next();
+            iterator.set(element);
+        }
+    }
+
+    /**
+     * Stable merge sort of {@code keys[from, to)}, moving {@code indices} along with the keys.
+     */
+    private static void mergeSort(long[] keys, int[] indices, long[] keyBuffer, int[] indexBuffer, int from, int to) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(keys, indices, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(keys, indices, keyBuffer, indexBuffer, from, mid);
+        mergeSort(keys, indices, keyBuffer, indexBuffer, mid, to);
+        merge(keys, indices, keyBuffer, indexBuffer, from, mid, to);
+    }
+
+    private static void insertionSort(long[] keys, int[] indices, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            long key = keys[i];
+            int index = indices[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                indices[j + 1] = indices[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            indices[j + 1] = index;
+        }
+    }
+
+    private static void merge(long[] keys, int[] indices, long[] keyBuffer, int[] indexBuffer, int from, int mid, int to) {
+        if (keys[mid - 1] <= keys[mid]) {
+            return;
+        }
+        System.arraycopy(keys, from, keyBuffer, from, to - from);
+        System.arraycopy(indices, from, indexBuffer, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && keyBuffer[left] <= keyBuffer[right])) {
+                keys[i] = keyBuffer[left];
+                indices[i] = indexBuffer[left++];
+            } else {
+                keys[i] = keyBuffer[right];
+                indices[i] = indexBuffer[right++];
+            }
+        }
+    }
+
+    /**
+     * Sorts both halves in parallel, then merges them on the current thread.
+     */
+    private static final class MergeSortAction extends RecursiveAction {
+        private final long[] keys;
+        private final int[] indices;
+        private final long[] keyBuffer;
+        private final int[] indexBuffer;
+        private final int from;
+        private final int to;
+
+        MergeSortAction(long[] keys, int[] indices, long[] keyBuffer, int[] indexBuffer, int from, int to) {
+            this.keys = keys;
+            this.indices = indices;
+            this.keyBuffer = keyBuffer;
+            this.indexBuffer = indexBuffer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(keys, indices, keyBuffer, indexBuffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MergeSortAction(keys, indices, keyBuffer, indexBuffer, from, mid),
+                      new MergeSortAction(keys, indices, keyBuffer, indexBuffer, mid, to));
+            merge(keys, indices, keyBuffer, indexBuffer, from, mid, to);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code long} to an object without boxing. It is the primitive counterpart of {@link MapperFunction},
+ * not a subtype of it; {@link MapperStream#fromLong()} starts a pipeline of such stages.
+ *
+ * @param <R> the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface LongMapperFunction<R> {
+
+    R map(long source);
+
+    default <V> LongMapperFunction<V> andThen(MapperFunction<? super R, ? extends V> after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongToIntMapperFunction andThenToInt(ToIntMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongUnaryMapperFunction andThenToLong(ToLongMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongToDoubleMapperFunction andThenToDouble(ToDoubleMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+}
@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code long} to a primitive {@code double} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromLong()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface LongToDoubleMapperFunction {
+
+    double map(long source);
+
+    default LongToDoubleMapperFunction andThen(DoubleUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongToIntMapperFunction andThenToInt(DoubleToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongUnaryMapperFunction andThenToLong(DoubleToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default <V> LongMapperFunction<V> andThenToObj(DoubleMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+}
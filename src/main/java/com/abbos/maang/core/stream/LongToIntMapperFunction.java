@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code long} to a primitive {@code int} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromLong()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface LongToIntMapperFunction {
+
+    int map(long source);
+
+    default LongToIntMapperFunction andThen(IntUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongUnaryMapperFunction andThenToLong(IntToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongToDoubleMapperFunction andThenToDouble(IntToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default <V> LongMapperFunction<V> andThenToObj(IntMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+}
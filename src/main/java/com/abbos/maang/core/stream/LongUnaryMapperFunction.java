@@ -0,0 +1,36 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps a primitive {@code long} to a primitive {@code long} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#fromLong()} starts a pipeline of such stages.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface LongUnaryMapperFunction {
+
+    long map(long source);
+
+    default LongUnaryMapperFunction andThen(LongUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongToIntMapperFunction andThenToInt(LongToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default LongToDoubleMapperFunction andThenToDouble(LongToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+
+    default <V> LongMapperFunction<V> andThenToObj(LongMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (long source) -> after.map(map(source));
+    }
+}
@@ -12,4 +12,28 @@ public interface MapperChain<S, T> {
     default <V> MapperChain<S, V> andThen(MapperFunction<? super T, V> after) {
         return source -> after.map(apply(source));
     }
+
+    default ToIntMapperFunction<S> andThenToInt(ToIntMapperFunction<? super T> after) {
+        return source -> after.map(apply(source));
+    }
+
+    default ToLongMapperFunction<S> andThenToLong(ToLongMapperFunction<? super T> after) {
+        return source -> after.map(apply(source));
+    }
+
+    default ToDoubleMapperFunction<S> andThenToDouble(ToDoubleMapperFunction<? super T> after) {
+        return source -> after.map(apply(source));
+    }
+
+    /**
+     * Records every call of this chain as a single stage of the given profiler.
+     *
+     * @param profiler the profiler receiving the metrics
+     * @param stage    the stage name
+     * @return an instrumented chain
+     */
+    default MapperChain<S, T> profiled(PipelineProfiler profiler, String stage) {
+        MapperFunction<S, T> recorded = profiler.stage(stage, this::apply);
+        return recorded::map;
+    }
 }
@@ -0,0 +1,192 @@
+package com.abbos.maang.core.stream;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Immutable implementation of {@link MapperDSL} compiled into a {@link MethodHandle} decision chain.
+ * <p>
+ * Every {@link #when(Predicate, MapperFunction)} clause is stored in a pair of arrays when it is added. On the first
+ * {@link #execute(Object)} the branches are compiled into nested {@code guardWithTest} handles, one per branch and
+ * ending in the fallback, and held by a {@link CompiledMapper}. Each predicate and mapper is bound into its own
+ * node, so the JIT inlines every branch at its own call site instead of testing all predicates through one
+ * megamorphic {@code test} call. The first matching branch wins; when none matches the fallback set by
+ * {@link #mapTo(MapperFunction)} or {@link #withContext(BiMapperFunction)} is used.
+ * <p>
+ * The context object is bound once through {@link #context(Object)} and passed as-is on every call, so
+ * context-aware mappings do not allocate.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * MapperEngine<Integer, String> grade = MapperEngine.from(Integer.class)
+ *         .mapTo(score -> "F")
+ *         .when(score -> score >= 90, score -> "A")
+ *         .when(score -> score >= 75, score -> "B");
+ * grade.execute(80); // "B"
+ * }</pre>
+ *
+ * <p>Instances are thread-safe; every builder method returns a new engine.
+ *
+ * @param <S> the source type
+ * @param <T> the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class MapperEngine<S, T> implements MapperDSL<S, T> {
+
+    private static final MethodHandle TEST;
+    private static final MethodHandle MAP;
+    private static final MethodHandle MAP_WITH_CONTEXT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TEST = lookup.findVirtual(Predicate.class, "test", MethodType.methodType(boolean.class, Object.class));
+            MAP = lookup.findVirtual(MapperFunction.class, "map", MethodType.methodType(Object.class, Object.class));
+            MAP_WITH_CONTEXT = lookup.findVirtual(BiMapperFunction.class, "map",
+                                                  MethodType.methodType(Object.class, Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final Predicate<Object>[] NO_CONDITIONS = new Predicate[0];
+    private static final MapperFunction<Object, Object>[] NO_BRANCHES = new MapperFunction[0];
+
+    private final Class<S> sourceType;
+    private final Predicate<Object>[] conditions;
+    private final MapperFunction<Object, Object>[] branches;
+    private final MapperFunction<Object, Object> fallback;
+    private final BiMapperFunction<Object, Object, Object> contextFallback;
+    private final Object context;
+    /**
+     * Compiled on first {@link #execute(Object)}; a racing duplicate is equivalent and harmless.
+     */
+    private CompiledMapper<S, T> compiled;
+
+    private MapperEngine(Class<S> sourceType, Predicate<Object>[] conditions, MapperFunction<Object, Object>[] branches,
+                         MapperFunction<Object, Object> fallback, BiMapperFunction<Object, Object, Object> contextFallback,
+                         Object context) {
+        this.sourceType = sourceType;
+        this.conditions = conditions;
+        this.branches = branches;
+        this.fallback = fallback;
+        this.contextFallback = contextFallback;
+        this.context = context;
+    }
+
+    /**
+     * Starts a new engine with no branches and the identity mapping as fallback.
+     *
+     * @param sourceType the class of the objects to map
+     * @return a new engine
+     */
+    public static <S> MapperEngine<S, S> from(Class<S> sourceType) {
+        Objects.requireNonNull(sourceType, "sourceType must not be null");
+        return new MapperEngine<>(sourceType, NO_CONDITIONS, NO_BRANCHES, source -> source, null, null);
+    }
+
+    /**
+     * Sets the fallback mapping and the result type.
+     * <p>
+     * Branches produce the previous result type, so {@code mapTo} must come before the {@code when} clauses.
+     *
+     * @throws IllegalStateException if {@code when} branches were already added
+     */
+    @Override
+    public <V> MapperEngine<S, V> mapTo(MapperFunction<? super S, V> mapper) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        if (conditions.length > 0) {
+            throw new IllegalStateException("mapTo must be declared before the %d when branches"
+                                                    .formatted(conditions.length));
+        }
+        return new MapperEngine<>(sourceType, NO_CONDITIONS, NO_BRANCHES,
+                                  (MapperFunction<Object, Object>) mapper, null, context);
+    }
+
+    /**
+     * Sets a context-aware fallback mapping that receives the object bound by {@link #context(Object)}.
+     */
+    @Override
+    public MapperEngine<S, T> withContext(BiMapperFunction<? super S, ?, T> mapper) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        return new MapperEngine<>(sourceType, conditions, branches, null,
+                                  (BiMapperFunction<Object, Object, Object>) mapper, context);
+    }
+
+    /**
+     * Binds the context passed to {@link #withContext(BiMapperFunction)} mappings.
+     *
+     * @param context the context object, shared by every call
+     * @return a new engine with the context bound
+     */
+    public MapperEngine<S, T> context(Object context) {
+        return new MapperEngine<>(sourceType, conditions, branches, fallback, contextFallback, context);
+    }
+
+    /**
+     * Appends a branch to the table. Branches are tested in the order they were added.
+     */
+    @Override
+    public MapperEngine<S, T> when(Predicate<S> condition, MapperFunction<? super S, T> mapper) {
+        Objects.requireNonNull(condition, "condition must not be null");
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        int size = conditions.length;
+        Predicate<Object>[] newConditions = Arrays.copyOf(conditions, size + 1);
+        MapperFunction<Object, Object>[] newBranches = Arrays.copyOf(branches, size + 1);
+        newConditions[size] = (Predicate<Object>) condition;
+        newBranches[size] = (MapperFunction<Object, Object>) mapper;
+        return new MapperEngine<>(sourceType, newConditions, newBranches, fallback, contextFallback, context);
+    }
+
+    @Override
+    public T execute(S source) {
+        CompiledMapper<S, T> compiled = this.compiled;
+        if (compiled == null) {
+            this.compiled = compiled = compile();
+        }
+        return compiled.map(source);
+    }
+
+    /**
+     * Nests the branches from the last one outwards: {@code when0 ? map0 : (when1 ? map1 : ... fallback)}.
+     */
+    private CompiledMapper<S, T> compile() {
+        MethodHandle chain = contextFallback != null
+                ? MethodHandles.insertArguments(MAP_WITH_CONTEXT.bindTo(contextFallback), 1, context)
+                : MAP.bindTo(fallback);
+        for (int i = conditions.length - 1; i >= 0; i--) {
+            chain = MethodHandles.guardWithTest(TEST.bindTo(conditions[i]), MAP.bindTo(branches[i]), chain);
+        }
+        MethodHandle dispatch = chain;
+        MapperFunction<Object, Object> stage = source -> {
+            try {
+                return (Object) dispatch.invokeExact(source);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        };
+        return CompiledMapper.define(chain, new MapperFunction[]{stage}, false);
+    }
+
+    /**
+     * @return the number of {@code when} branches in the table
+     */
+    public int branches() {
+        return conditions.length;
+    }
+
+    /**
+     * @return the class of the objects this engine maps
+     */
+    public Class<S> sourceType() {
+        return sourceType;
+    }
+}
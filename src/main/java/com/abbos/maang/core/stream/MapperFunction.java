@@ -15,4 +15,19 @@ public interface MapperFunction<T, R> {
         Objects.requireNonNull(after);
         return (T t) -> after.map(map(t));
     }
+
+    default ToIntMapperFunction<T> andThenToInt(ToIntMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (T t) -> after.map(map(t));
+    }
+
+    default ToLongMapperFunction<T> andThenToLong(ToLongMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (T t) -> after.map(map(t));
+    }
+
+    default ToDoubleMapperFunction<T> andThenToDouble(ToDoubleMapperFunction<? super R> after) {
+        Objects.requireNonNull(after);
+        return (T t) -> after.map(map(t));
+    }
 }
@@ -0,0 +1,32 @@
+package com.abbos.maang.core.stream;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event emitted for every invocation of a stage instrumented by a {@link PipelineProfiler}.
+ * <p>
+ * The event is only committed while a recording with {@code com.abbos.maang.MapperStage} enabled is running, and its
+ * duration threshold can be raised in the recording settings to keep only slow invocations.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@Name("com.abbos.maang.MapperStage")
+@Label("Mapper Stage")
+@Category({"MAANG", "Mapper"})
+@Description("Execution of a single MapperStream or MapperChain stage")
+final class MapperStageEvent extends Event {
+
+    @Label("Pipeline")
+    String pipeline;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -1,8 +1,21 @@
 package com.abbos.maang.core.stream;
 
+import com.abbos.maang.annotation.GenerateMapper;
+
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Aliabbos Ashurov
@@ -12,7 +25,10 @@ import java.util.function.Supplier;
 public class MapperStream<S, T> {
     private final List<MapperFunction<Object, Object>> operations = new CopyOnWriteArrayList<>();
     private final Class<S> sourceType;
-    private RuntimeException ex;
+    private Supplier<? extends RuntimeException> failure;
+    private boolean parallel;
+    private PipelineProfiler profiler;
+    private int window;
 
     private MapperStream(Class<S> sourceType) {
         this.sourceType = sourceType;
@@ -26,29 +42,272 @@ public class MapperStream<S, T> {
         return new MapperStream<>(sourceType);
     }
 
+    /// starts a mapping process that converts `sourceType` into the record `targetType`
+    ///
+    /// fields are matched to record components by name and type; the plan is resolved once
+    /// per (source, target) pair and cached, so repeated calls are cheap
+    ///
+    /// @param sourceType class whose fields are read
+    /// @param targetType record class to construct
+    /// @return MapperStream<S, T>
+    public static <S, T> MapperStream<S, T> auto(Class<S> sourceType, Class<T> targetType) {
+        return from(sourceType).map(AutoMapper.of(sourceType, targetType));
+    }
+
+    /// starts a primitive pipeline over `int` sources
+    ///
+    /// the primitive functions are not stages of a [MapperStream]: compose them with `andThen` and the
+    /// `andThenToX` methods, which keep every stage unboxed until `andThenToObj`
+    ///
+    /// @return IntUnaryMapperFunction, the identity
+    public static IntUnaryMapperFunction fromInt() {
+        return (int source) -> source;
+    }
+
+    /// starts a primitive pipeline over `long` sources, see [#fromInt()]
+    ///
+    /// @return LongUnaryMapperFunction, the identity
+    public static LongUnaryMapperFunction fromLong() {
+        return (long source) -> source;
+    }
+
+    /// starts a primitive pipeline over `double` sources, see [#fromInt()]
+    ///
+    /// @return DoubleUnaryMapperFunction, the identity
+    public static DoubleUnaryMapperFunction fromDouble() {
+        return (double source) -> source;
+    }
+
     public <V> MapperStream<S, V> map(MapperFunction<? super S, V> mapper) {
-        operations.add((MapperFunction<Object, Object>) mapper);
+        MapperFunction<Object, Object> op = (MapperFunction<Object, Object>) mapper;
+        operations.add(profiler == null ? op : profiler.stage("map#" + operations.size(), op));
         return (MapperStream<S, V>) this;
     }
 
-    public MapperStream<S, T> onFailure(Supplier<? extends RuntimeException> ex) {
-        this.ex = ex.get();
+    /// adds a stage for slow, blocking calls, such as remote lookups
+    ///
+    /// [#executeAllAsync] maps each element on its own virtual thread; at most `maxConcurrency`
+    /// calls of this stage are in flight at once, across all batches of this stream
+    ///
+    /// @param mapper         blocking stage
+    /// @param maxConcurrency in-flight bound for `mapper`
+    /// @return MapperStream<S, V>
+    public <V> MapperStream<S, V> mapAsync(MapperFunction<? super S, V> mapper, int maxConcurrency) {
+        AsyncStage stage = new AsyncStage((MapperFunction<Object, Object>) mapper, maxConcurrency);
+        window = Math.max(window, maxConcurrency);
+        return map((MapperFunction<? super S, V>) (MapperFunction<?, ?>) stage);
+    }
+
+    /// attaches a profiler that records every stage, including the ones added before this call
+    ///
+    /// stages are only wrapped once a profiler is attached, unprofiled pipelines pay nothing
+    ///
+    /// @param profiler receives per-stage counts, latencies and JFR events
+    /// @return MapperStream<S, T>
+    public MapperStream<S, T> profile(PipelineProfiler profiler) {
+        if (this.profiler != null) {
+            throw new IllegalStateException("A profiler is already attached: " + this.profiler.name());
+        }
+        this.profiler = Objects.requireNonNull(profiler, "profiler must not be null");
+        for (int i = 0; i < operations.size(); i++) {
+            operations.set(i, profiler.stage("map#" + i, operations.get(i)));
+        }
         return this;
     }
 
+    /// ends the object stages with a stage producing a primitive `int`
+    ///
+    /// the returned function stays unboxed for every further `andThen` stage
+    ///
+    /// @param mapper last object stage
+    /// @return ToIntMapperFunction<S>
+    public ToIntMapperFunction<S> mapToInt(ToIntMapperFunction<? super T> mapper) {
+        return compile().andThenToInt(mapper);
+    }
+
+    /// ends the object stages with a stage producing a primitive `long`
+    ///
+    /// the returned function stays unboxed for every further `andThen` stage
+    ///
+    /// @param mapper last object stage
+    /// @return ToLongMapperFunction<S>
+    public ToLongMapperFunction<S> mapToLong(ToLongMapperFunction<? super T> mapper) {
+        return compile().andThenToLong(mapper);
+    }
+
+    /// ends the object stages with a stage producing a primitive `double`
+    ///
+    /// the returned function stays unboxed for every further `andThen` stage
+    ///
+    /// @param mapper last object stage
+    /// @return ToDoubleMapperFunction<S>
+    public ToDoubleMapperFunction<S> mapToDouble(ToDoubleMapperFunction<? super T> mapper) {
+        return compile().andThenToDouble(mapper);
+    }
+
+    /// replaces any stage failure with an exception from `failure`
+    ///
+    /// the supplier is called once per failure and should create a new exception each time, the original
+    /// exception is attached to it as suppressed. A shared instance should disable suppression, as
+    /// [#onFailure(String)] does; otherwise it only keeps the first failure. Without `onFailure` the original
+    /// exception propagates unchanged
+    ///
+    /// @param failure creates the exception to throw
+    /// @return MapperStream<S, T>
+    public MapperStream<S, T> onFailure(Supplier<? extends RuntimeException> failure) {
+        this.failure = Objects.requireNonNull(failure, "failure must not be null");
+        return this;
+    }
+
+    /// replaces any stage failure with one preallocated, stackless [MappingException]
+    ///
+    /// throwing the shared instance costs no allocation and no stack walk, which keeps bad input cheap
+    ///
+    /// @param message message of the shared exception
+    /// @return MapperStream<S, T>
+    public MapperStream<S, T> onFailure(String message) {
+        MappingException shared = new MappingException(message);
+        return onFailure(() -> shared);
+    }
+
     public T execute(S source) {
+        Object result = source;
         try {
-            Object result = source;
             for (MapperFunction<Object, Object> op : operations) {
                 result = op.map(result);
             }
             return (T) result;
-        } catch (RuntimeException ignore) {
-            throw this.ex;
+        } catch (RuntimeException e) {
+            if (failure == null) {
+                throw e;
+            }
+            throw CompiledMapper.replace(failure, e);
         }
     }
+
+    /// switches batch execution to the common ForkJoinPool
+    ///
+    /// only [#executeAll] calls are affected, single-object [#execute] always runs inline
+    ///
+    /// @return MapperStream<S, T>
+    public MapperStream<S, T> parallel() {
+        this.parallel = true;
+        return this;
+    }
+
+    /// maps every element of the list in one pass over a compiled pipeline
+    ///
+    /// @param sources objects to map
+    /// @return unmodifiable List<T> in the order of `sources`
+    public List<T> executeAll(List<? extends S> sources) {
+        return compile().mapAll(sources);
+    }
+
+    /// maps every element without throwing, failures are collected as [MappingError]s
+    ///
+    /// @param sources objects to map
+    /// @return BatchResult<T> with `null` in the slots of failed elements
+    public BatchResult<T> tryExecuteAll(List<? extends S> sources) {
+        return compile().tryMapAll(sources);
+    }
+
+    /// maps every element on virtual threads and completes with the results in the order of `sources`
+    ///
+    /// at most as many elements are in flight as the largest [#mapAsync] bound; each async stage
+    /// additionally keeps its own bound. The first failure completes the future exceptionally and
+    /// stops launching further elements; cancelling the future interrupts the running ones
+    ///
+    /// @param sources objects to map
+    /// @return CompletableFuture<List<T>> of an unmodifiable list
+    public CompletableFuture<List<T>> executeAllAsync(List<? extends S> sources) {
+        CompiledMapper<S, T> mapper = compile();
+        Object[] in = sources.toArray();
+        Object[] out = new Object[in.length];
+        Semaphore inFlight = new Semaphore(window > 0 ? window : Runtime.getRuntime().availableProcessors());
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        Thread.ofVirtual().name("mapper-async-launcher").start(() -> {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                result.whenComplete((list, ex) -> {
+                    if (result.isCancelled()) {
+                        executor.shutdownNow();
+                    }
+                });
+                for (int i = 0; i < in.length && !result.isDone(); i++) {
+                    inFlight.acquire();
+                    int index = i;
+                    executor.execute(() -> {
+                        try {
+                            out[index] = mapper.map((S) in[index]);
+                        } catch (Throwable e) {
+                            result.completeExceptionally(e);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+            result.complete(Collections.unmodifiableList(Arrays.asList((T[]) out)));
+        });
+        return result;
+    }
+
+    /// maps `sources[i]` into `results[i]` without allocating an intermediate collection
+    ///
+    /// @param sources objects to map
+    /// @param results presized destination array
+    /// @return `results`
+    public T[] executeAll(S[] sources, T[] results) {
+        return compile().mapAll(sources, results);
+    }
+
+    /// maps the elements of `source` lazily, one at a time, as the returned stream is consumed
+    ///
+    /// @param source stream of objects to map
+    /// @return Stream<T>
+    public Stream<T> stream(Stream<? extends S> source) {
+        CompiledMapper<S, T> mapper = compile();
+        return source.map(mapper::map);
+    }
+
+    /// maps the elements of `source` lazily; the stream is parallel when [#parallel] was called
+    ///
+    /// @param source spliterator over objects to map
+    /// @return Stream<T>
+    public Stream<T> stream(Spliterator<? extends S> source) {
+        return stream(StreamSupport.stream(source, parallel));
+    }
+
+    /// subscribes to `source` and republishes mapped items, forwarding subscriber demand upstream
+    ///
+    /// @param source publisher of objects to map
+    /// @return Flow.Publisher<T>
+    public Flow.Publisher<T> publisher(Flow.Publisher<? extends S> source) {
+        Flow.Processor<S, T> processor = processor();
+        source.subscribe(processor);
+        return processor;
+    }
+
+    /// creates a pipeline stage to place between a publisher and a subscriber
+    ///
+    /// @return Flow.Processor<S, T>
+    public Flow.Processor<S, T> processor() {
+        return new MappingProcessor<>(compile());
+    }
+
+    /// freezes the current stages into an immutable [CompiledMapper]
+    ///
+    /// later calls to [#map] or [#onFailure] on this builder do not affect the returned mapper,
+    /// which can be shared freely across threads
+    ///
+    /// @return CompiledMapper<S, T>
+    public CompiledMapper<S, T> compile() {
+        return CompiledMapper.of(List.copyOf(operations), failure, parallel);
+    }
 }
 
+@GenerateMapper(source = User.class, target = UserDto.class)
 class main {
     public static void main(String[] args) {
         User user = new User("abbos", 1);
@@ -58,18 +317,14 @@ class main {
                 //.onFailure(() -> new UserMappingProcessFailure("something went wrong here!"))
                 .execute(user);
         System.out.println(execute);
-    }
-}
 
-class User {
-    String name;
-    int age;
+        UserDto auto = MapperStream.auto(User.class, UserDto.class)
+                .execute(user);
+        System.out.println(auto);
 
-    public User(String name, int age) {
-        this.name = name;
-        this.age = age;
+        UserDto generated = MapperStream.from(User.class)
+                .map(UserToUserDtoMapper.INSTANCE)
+                .execute(user);
+        System.out.println(generated);
     }
 }
-
-record UserDto(String name, int age) {
-}
@@ -0,0 +1,13 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * A failed element of a batch run, recorded instead of thrown.
+ *
+ * @param index the position of the element in the batch
+ * @param stage the zero-based index of the stage that failed
+ * @param cause what the stage threw
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public record MappingError(int index, int stage, RuntimeException cause) {
+}
@@ -0,0 +1,22 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * A stackless exception for mapping failures.
+ * <p>
+ * Neither a stack trace nor suppressed exceptions are recorded, so creating one is cheap and a single instance can be
+ * preallocated and thrown repeatedly, as {@link MapperStream#onFailure(String)} does, without reporting a misleading
+ * stack.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class MappingException extends RuntimeException {
+
+    public MappingException(String message) {
+        super(message, null, false, false);
+    }
+
+    public MappingException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
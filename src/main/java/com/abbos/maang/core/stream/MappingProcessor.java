@@ -0,0 +1,136 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Flow.Processor} that maps every upstream item with a {@link MapperFunction} and passes it downstream.
+ * <p>
+ * The processor never buffers: each {@link Flow.Subscription#request(long)} from the subscriber is forwarded
+ * upstream unchanged, so the source only produces what the consumer has asked for and an arbitrarily large input
+ * is never materialized. A mapping failure cancels the upstream subscription and is delivered through
+ * {@link Flow.Subscriber#onError(Throwable)}; so is a {@code null} mapping result, which {@code Flow} forbids
+ * passing to {@link Flow.Subscriber#onNext(Object)}.
+ * <p>
+ * Only a single subscriber is supported; further subscribers receive {@link IllegalStateException}.
+ *
+ * @param <S> the upstream item type
+ * @param <T> the downstream item type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class MappingProcessor<S, T> implements Flow.Processor<S, T> {
+
+    private final MapperFunction<? super S, ? extends T> mapper;
+    private final AtomicReference<Flow.Subscriber<? super T>> downstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicBoolean linked = new AtomicBoolean();
+    private final AtomicBoolean terminated = new AtomicBoolean();
+    private volatile boolean subscribed;
+    private volatile boolean completed;
+    private volatile Throwable error;
+
+    public MappingProcessor(MapperFunction<? super S, ? extends T> mapper) {
+        this.mapper = Objects.requireNonNull(mapper, "mapper must not be null");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber must not be null");
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("MappingProcessor supports a single subscriber"));
+            return;
+        }
+        link();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription must not be null");
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        link();
+    }
+
+    @Override
+    public void onNext(S item) {
+        T mapped;
+        try {
+            mapped = Objects.requireNonNull(mapper.map(item), "mapper returned null");
+        } catch (RuntimeException e) {
+            upstream.get().cancel();
+            onError(e);
+            return;
+        }
+        if (!terminated.get()) {
+            downstream.get().onNext(mapped);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = Objects.requireNonNull(throwable, "throwable must not be null");
+        terminate();
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        terminate();
+    }
+
+    private void link() {
+        Flow.Subscriber<? super T> subscriber = downstream.get();
+        Flow.Subscription subscription = upstream.get();
+        if (subscriber == null || subscription == null || !linked.compareAndSet(false, true)) {
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    subscription.cancel();
+                    onError(new IllegalArgumentException("non-positive request: " + n));
+                    return;
+                }
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                terminated.set(true);
+                subscription.cancel();
+            }
+        });
+        subscribed = true;
+        terminate();
+    }
+
+    /**
+     * Delivers a pending terminal signal once the subscriber has been handed its subscription.
+     */
+    private void terminate() {
+        if (!subscribed || !(completed || error != null) || !terminated.compareAndSet(false, true)) {
+            return;
+        }
+        Throwable failure = error;
+        if (failure != null) {
+            downstream.get().onError(failure);
+        } else {
+            downstream.get().onComplete();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.abbos.maang.core.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in per-stage instrumentation for {@link MapperStream} and {@link MapperChain} pipelines.
+ * <p>
+ * Stages are wrapped only when a profiler is attached, through {@link MapperStream#profile(PipelineProfiler)},
+ * {@link MapperChain#profiled(PipelineProfiler, String)} or {@link #stage(String, MapperFunction)}; pipelines without
+ * a profiler run exactly as before. Each wrapped stage counts invocations and failures, records its latency in a
+ * log2 histogram and emits a {@link MapperStageEvent} to JFR. Recording uses {@link LongAdder}s, so concurrent
+ * callers do not contend on a shared counter.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * PipelineProfiler profiler = new PipelineProfiler("user-export");
+ * MapperStream.from(User.class).profile(profiler).map(...).map(...);
+ * profiler.snapshot().forEach(System.out::println);
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class PipelineProfiler {
+
+    private static final int BUCKETS = 63;
+
+    private final String name;
+    private final List<StageMetrics> stages = new CopyOnWriteArrayList<>();
+
+    public PipelineProfiler(String name) {
+        this.name = Objects.requireNonNull(name, "name must not be null");
+    }
+
+    /**
+     * Wraps a stage so that every call is recorded under the given name.
+     *
+     * @param stage  the stage name shown in snapshots and JFR events
+     * @param mapper the stage to instrument
+     * @return an instrumented stage
+     */
+    public <T, R> MapperFunction<T, R> stage(String stage, MapperFunction<T, R> mapper) {
+        Objects.requireNonNull(stage, "stage must not be null");
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        StageMetrics metrics = new StageMetrics(stage);
+        stages.add(metrics);
+        return source -> {
+            MapperStageEvent event = new MapperStageEvent();
+            event.begin();
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                R result = mapper.map(source);
+                failed = false;
+                return result;
+            } finally {
+                metrics.record(System.nanoTime() - start, failed);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.pipeline = name;
+                    event.stage = stage;
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return the metrics of every registered stage, in registration order
+     */
+    public List<StageSnapshot> snapshot() {
+        List<StageSnapshot> result = new ArrayList<>(stages.size());
+        for (StageMetrics metrics : stages) {
+            result.add(metrics.snapshot());
+        }
+        return result;
+    }
+
+    /**
+     * Clears all recorded metrics while keeping the registered stages.
+     */
+    public void reset() {
+        stages.forEach(StageMetrics::reset);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private final class StageMetrics {
+        private final String stage;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        StageMetrics(String stage) {
+            this.stage = stage;
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos, boolean failed) {
+            long elapsed = Math.max(1, nanos);
+            invocations.increment();
+            totalNanos.add(elapsed);
+            histogram[63 - Long.numberOfLeadingZeros(elapsed)].increment();
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        StageSnapshot snapshot() {
+            long[] buckets = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = histogram[i].sum();
+            }
+            return new StageSnapshot(name, stage, invocations.sum(), failures.sum(), totalNanos.sum(), buckets);
+        }
+
+        void reset() {
+            invocations.reset();
+            failures.reset();
+            totalNanos.reset();
+            for (LongAdder bucket : histogram) {
+                bucket.reset();
+            }
+        }
+    }
+}
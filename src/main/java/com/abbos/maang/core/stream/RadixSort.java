@@ -0,0 +1,359 @@
+package com.abbos.maang.core.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Stable LSD radix sort for primitive arrays and for records with a fixed-width numeric key.
+ * <p>
+ * Keys are sorted one byte at a time, least significant first: 4 passes for {@code int} keys and 8 for {@code long}
+ * and {@code double} keys, each pass a counting sort into a scratch array. Signed keys are handled by flipping the
+ * sign bit of the most significant byte, and {@code double} keys are first mapped to {@code long}s whose order matches
+ * {@link Double#compare(double, double)}. A pass is skipped when every key has the same byte in that position, so
+ * narrow value ranges cost fewer passes.
+ * <p>
+ * The {@code parallel*} variants split the array into blocks on the common {@link ForkJoinPool}: every block builds
+ * its own per-digit histogram, the histograms are turned into per-block offsets, and each block scatters its
+ * elements independently. Block order is preserved, so the parallel sort is stable as well.
+ * <p>
+ * Record keys are extracted once into a primitive array; the records move along with their keys.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class RadixSort {
+
+    private static final int RADIX = 256;
+    private static final int MASK = RADIX - 1;
+    private static final int SMALL_ARRAY = 256;
+    private static final int MIN_BLOCK = 1 << 16;
+
+    private RadixSort() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void sort(int[] array) {
+        if (array.length < SMALL_ARRAY) {
+            Arrays.sort(array);
+            return;
+        }
+        sortInts(array, null, false);
+    }
+
+    public static void parallelSort(int[] array) {
+        if (array.length < SMALL_ARRAY) {
+            Arrays.sort(array);
+            return;
+        }
+        sortInts(array, null, true);
+    }
+
+    public static void sort(long[] array) {
+        if (array.length < SMALL_ARRAY) {
+            Arrays.sort(array);
+            return;
+        }
+        sortLongs(array, null, false);
+    }
+
+    public static void parallelSort(long[] array) {
+        if (array.length < SMALL_ARRAY) {
+            Arrays.sort(array);
+            return;
+        }
+        sortLongs(array, null, true);
+    }
+
+    /**
+     * Values are ordered as by {@link Double#compare(double, double)}.
+     */
+    public static void sort(double[] array) {
+        sortDoubles(array, false);
+    }
+
+    /**
+     * Values are ordered as by {@link Double#compare(double, double)}.
+     */
+    public static void parallelSort(double[] array) {
+        sortDoubles(array, true);
+    }
+
+    public static <T> void sortByInt(T[] records, ToIntFunction<? super T> key) {
+        sortByInt(records, key, false);
+    }
+
+    public static <T> void parallelSortByInt(T[] records, ToIntFunction<? super T> key) {
+        sortByInt(records, key, true);
+    }
+
+    public static <T> void sortByLong(T[] records, ToLongFunction<? super T> key) {
+        sortByLong(records, key, false);
+    }
+
+    public static <T> void parallelSortByLong(T[] records, ToLongFunction<? super T> key) {
+        sortByLong(records, key, true);
+    }
+
+    /**
+     * Keys are ordered as by {@link Double#compare(double, double)}.
+     */
+    public static <T> void sortByDouble(T[] records, ToDoubleFunction<? super T> key) {
+        Objects.requireNonNull(key, "key must not be null");
+        sortByLong(records, record -> SortKeys.sortable(key.applyAsDouble(record)), false);
+    }
+
+    /**
+     * Keys are ordered as by {@link Double#compare(double, double)}.
+     */
+    public static <T> void parallelSortByDouble(T[] records, ToDoubleFunction<? super T> key) {
+        Objects.requireNonNull(key, "key must not be null");
+        sortByLong(records, record -> SortKeys.sortable(key.applyAsDouble(record)), true);
+    }
+
+    private static <T> void sortByInt(T[] records, ToIntFunction<? super T> key, boolean parallel) {
+        Objects.requireNonNull(key, "key must not be null");
+        int[] keys = new int[records.length];
+        if (parallel) {
+            Arrays.parallelSetAll(keys, i -> key.applyAsInt(records[i]));
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = key.applyAsInt(records[i]);
+            }
+        }
+        sortInts(keys, records, parallel);
+    }
+
+    private static <T> void sortByLong(T[] records, ToLongFunction<? super T> key, boolean parallel) {
+        Objects.requireNonNull(key, "key must not be null");
+        long[] keys = new long[records.length];
+        if (parallel) {
+            Arrays.parallelSetAll(keys, i -> key.applyAsLong(records[i]));
+        } else {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = key.applyAsLong(records[i]);
+            }
+        }
+        sortLongs(keys, records, parallel);
+    }
+
+    private static void sortDoubles(double[] array, boolean parallel) {
+        // NaNs are set aside as they are, as in Arrays.sort, so their payloads survive; other values round-trip exactly
+        long[] keys = new long[array.length];
+        int size = 0;
+        int nans = 0;
+        for (double value : array) {
+            if (Double.isNaN(value)) {
+                array[nans++] = value;
+            } else {
+                keys[size++] = SortKeys.sortable(value);
+            }
+        }
+        System.arraycopy(array, 0, array, size, nans);
+        long[] sorted = nans == 0 ? keys : Arrays.copyOf(keys, size);
+        if (size < SMALL_ARRAY) {
+            Arrays.sort(sorted);
+        } else {
+            sortLongs(sorted, null, parallel);
+        }
+        if (parallel) {
+            IntStream.range(0, size).parallel().forEach(i -> array[i] = SortKeys.fromSortable(sorted[i]));
+        } else {
+            for (int i = 0; i < size; i++) {
+                array[i] = SortKeys.fromSortable(sorted[i]);
+            }
+        }
+    }
+
+    private static int blocks(int length, boolean parallel) {
+        return parallel ? Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, length / MIN_BLOCK)) : 1;
+    }
+
+    // ---------------------------------------------------------------- int keys
+
+    private static void sortInts(int[] keys, Object[] values, boolean parallel) {
+        int n = keys.length;
+        int blocks = blocks(n, parallel);
+        int[] srcKeys = keys;
+        int[] dstKeys = new int[n];
+        Object[] srcValues = values;
+        Object[] dstValues = values == null ? null : new Object[n];
+
+        for (int pass = 0; pass < Integer.BYTES; pass++) {
+            int shift = pass * 8;
+            int flip = pass == Integer.BYTES - 1 ? RADIX >>> 1 : 0;
+            int[][] counts = new int[blocks][RADIX];
+            int[] fromKeys = srcKeys, toKeys = dstKeys;
+            Object[] fromValues = srcValues, toValues = dstValues;
+            if (blocks == 1) {
+                histogram(fromKeys, 0, n, shift, flip, counts[0]);
+            } else {
+                runBlocks(blocks, n, (block, from, to) -> histogram(fromKeys, from, to, shift, flip, counts[block]));
+            }
+            if (isSingleBucket(counts, n)) {
+                continue;
+            }
+            int[][] offsets = offsets(counts);
+            if (blocks == 1) {
+                scatter(fromKeys, fromValues, toKeys, toValues, 0, n, shift, flip, offsets[0]);
+            } else {
+                runBlocks(blocks, n, (block, from, to) ->
+                        scatter(fromKeys, fromValues, toKeys, toValues, from, to, shift, flip, offsets[block]));
+            }
+            srcKeys = toKeys;
+            dstKeys = fromKeys;
+            srcValues = toValues;
+            dstValues = fromValues;
+        }
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            if (values != null) {
+                System.arraycopy(srcValues, 0, values, 0, n);
+            }
+        }
+    }
+
+    private static void histogram(int[] keys, int from, int to, int shift, int flip, int[] count) {
+        for (int i = from; i < to; i++) {
+            count[((keys[i] >>> shift) & MASK) ^ flip]++;
+        }
+    }
+
+    private static void scatter(int[] srcKeys, Object[] srcValues, int[] dstKeys, Object[] dstValues,
+                                int from, int to, int shift, int flip, int[] offset) {
+        for (int i = from; i < to; i++) {
+            int key = srcKeys[i];
+            int position = offset[((key >>> shift) & MASK) ^ flip]++;
+            dstKeys[position] = key;
+            if (srcValues != null) {
+                dstValues[position] = srcValues[i];
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- long keys
+
+    private static void sortLongs(long[] keys, Object[] values, boolean parallel) {
+        int n = keys.length;
+        int blocks = blocks(n, parallel);
+        long[] srcKeys = keys;
+        long[] dstKeys = new long[n];
+        Object[] srcValues = values;
+        Object[] dstValues = values == null ? null : new Object[n];
+
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            int shift = pass * 8;
+            int flip = pass == Long.BYTES - 1 ? RADIX >>> 1 : 0;
+            int[][] counts = new int[blocks][RADIX];
+            long[] fromKeys = srcKeys, toKeys = dstKeys;
+            Object[] fromValues = srcValues, toValues = dstValues;
+            if (blocks == 1) {
+                histogram(fromKeys, 0, n, shift, flip, counts[0]);
+            } else {
+                runBlocks(blocks, n, (block, from, to) -> histogram(fromKeys, from, to, shift, flip, counts[block]));
+            }
+            if (isSingleBucket(counts, n)) {
+                continue;
+            }
+            int[][] offsets = offsets(counts);
+            if (blocks == 1) {
+                scatter(fromKeys, fromValues, toKeys, toValues, 0, n, shift, flip, offsets[0]);
+            } else {
+                runBlocks(blocks, n, (block, from, to) ->
+                        scatter(fromKeys, fromValues, toKeys, toValues, from, to, shift, flip, offsets[block]));
+            }
+            srcKeys = toKeys;
+            dstKeys = fromKeys;
+            srcValues = toValues;
+            dstValues = fromValues;
+        }
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            if (values != null) {
+                System.arraycopy(srcValues, 0, values, 0, n);
+            }
+        }
+    }
+
+    private static void histogram(long[] keys, int from, int to, int shift, int flip, int[] count) {
+        for (int i = from; i < to; i++) {
+            count[((int) (keys[i] >>> shift) & MASK) ^ flip]++;
+        }
+    }
+
+    private static void scatter(long[] srcKeys, Object[] srcValues, long[] dstKeys, Object[] dstValues,
+                                int from, int to, int shift, int flip, int[] offset) {
+        for (int i = from; i < to; i++) {
+            long key = srcKeys[i];
+            int position = offset[((int) (key >>> shift) & MASK) ^ flip]++;
+            dstKeys[position] = key;
+            if (srcValues != null) {
+                dstValues[position] = srcValues[i];
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- shared
+
+    private static boolean isSingleBucket(int[][] counts, int n) {
+        for (int digit = 0; digit < RADIX; digit++) {
+            int total = 0;
+            for (int[] count : counts) {
+                total += count[digit];
+            }
+            if (total != 0) {
+                return total == n;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Turns per-block histograms into per-block start positions: all blocks for digit 0, then for digit 1, and so on.
+     */
+    private static int[][] offsets(int[][] counts) {
+        int[][] offsets = new int[counts.length][RADIX];
+        int running = 0;
+        for (int digit = 0; digit < RADIX; digit++) {
+            for (int block = 0; block < counts.length; block++) {
+                offsets[block][digit] = running;
+                running += counts[block][digit];
+            }
+        }
+        return offsets;
+    }
+
+    private static void runBlocks(int blocks, int n, BlockBody body) {
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                List<RecursiveAction> tasks = new ArrayList<>(blocks);
+                for (int block = 0; block < blocks; block++) {
+                    int index = block;
+                    int from = (int) ((long) n * block / blocks);
+                    int to = (int) ((long) n * (block + 1) / blocks);
+                    tasks.add(new RecursiveAction() {
+                        @Override
+                        protected void compute() {
+                            body.run(index, from, to);
+                        }
+                    });
+                }
+                ForkJoinTask.invokeAll(tasks);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface BlockBody {
+        void run(int block, int from, int to);
+    }
+}
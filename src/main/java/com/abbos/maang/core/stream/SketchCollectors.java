@@ -0,0 +1,95 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Approximate distinct-count and quantile collectors that use a fixed amount of memory regardless of input size.
+ * <p>
+ * {@code Collectors.groupingBy(key).size()} or {@code Collectors.toSet()} keeps every distinct key, and an exact
+ * percentile needs every value sorted. These collectors fold elements into a {@link HyperLogLog} or a
+ * {@link KllSketch} instead. Parallel splits merge sketches in the combiner; the sketch-returning variants let the
+ * caller serialize a partial result with {@code toBytes()} and merge it with other nodes' results later.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * long departments = employees.stream()
+ *         .collect(SketchCollectors.approxDistinct(Employee::department, 0.01));
+ * double[] p50p99 = employees.parallelStream()
+ *         .collect(SketchCollectors.approxQuantiles(Employee::salary, 200, 0.5, 0.99));
+ * }</pre>
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class SketchCollectors {
+
+    private static final Collector.Characteristics[] UNORDERED = {Collector.Characteristics.UNORDERED};
+
+    private SketchCollectors() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @param key       extracts the value whose distinct count is estimated
+     * @param precision HyperLogLog register bits, see {@link HyperLogLog#create(int)}
+     * @return a collector producing the merged sketch
+     */
+    public static <T> Collector<T, ?, HyperLogLog> hyperLogLog(Function<? super T, ?> key, int precision) {
+        Objects.requireNonNull(key, "key must not be null");
+        HyperLogLog.create(precision); // fail fast instead of in the first split
+        return Collector.of(() -> HyperLogLog.create(precision),
+                            (sketch, element) -> sketch.add(key.apply(element)),
+                            HyperLogLog::merge,
+                            Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * @param key           extracts the value whose distinct count is estimated
+     * @param relativeError target relative standard error, e.g. {@code 0.01}
+     * @return a collector producing the estimated number of distinct keys
+     */
+    public static <T> Collector<T, ?, Long> approxDistinct(Function<? super T, ?> key, double relativeError) {
+        Objects.requireNonNull(key, "key must not be null");
+        int precision = HyperLogLog.forError(relativeError).precision();
+        return Collector.of(() -> HyperLogLog.create(precision),
+                            (sketch, element) -> sketch.add(key.apply(element)),
+                            HyperLogLog::merge,
+                            HyperLogLog::estimate,
+                            UNORDERED);
+    }
+
+    /**
+     * @param mapper extracts the value to rank
+     * @param k      KLL accuracy parameter, see {@link KllSketch#create(int)}
+     * @return a collector producing the merged sketch
+     */
+    public static <T> Collector<T, ?, KllSketch> kll(ToDoubleFunction<? super T> mapper, int k) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        KllSketch.create(k); // fail fast instead of in the first split
+        return Collector.of(() -> KllSketch.create(k),
+                            (sketch, element) -> sketch.add(mapper.applyAsDouble(element)),
+                            KllSketch::merge,
+                            Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * @param mapper    extracts the value to rank
+     * @param k         KLL accuracy parameter, see {@link KllSketch#create(int)}
+     * @param fractions the ranks to estimate, each in {@code [0, 1]}
+     * @return a collector producing the estimated value at each rank
+     */
+    public static <T> Collector<T, ?, double[]> approxQuantiles(ToDoubleFunction<? super T> mapper, int k,
+                                                                double... fractions) {
+        Objects.requireNonNull(mapper, "mapper must not be null");
+        double[] ranks = fractions.clone();
+        KllSketch.create(k); // fail fast instead of in the first split
+        return Collector.of(() -> KllSketch.create(k),
+                            (sketch, element) -> sketch.add(mapper.applyAsDouble(element)),
+                            KllSketch::merge,
+                            sketch -> sketch.quantiles(ranks),
+                            UNORDERED);
+    }
+}
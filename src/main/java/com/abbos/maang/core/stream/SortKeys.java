@@ -0,0 +1,30 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * Order-preserving conversions of primitive sort keys, shared by the sorting utilities of this package.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class SortKeys {
+
+    private SortKeys() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Maps a {@code double} to a {@code long} whose signed order matches {@link Double#compare(double, double)}:
+     * {@code -0.0} sorts before {@code 0.0} and {@code NaN} after positive infinity.
+     */
+    static long sortable(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Inverse of {@link #sortable(double)}.
+     */
+    static double fromSortable(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+}
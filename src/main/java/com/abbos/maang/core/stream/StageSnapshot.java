@@ -0,0 +1,52 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * Point-in-time metrics of a single instrumented stage, produced by {@link PipelineProfiler#snapshot()}.
+ * <p>
+ * {@code histogram[i]} counts invocations whose latency fell into {@code [2^i, 2^(i+1))} nanoseconds.
+ *
+ * @param pipeline    the profiler name
+ * @param stage       the stage name
+ * @param invocations total number of calls, including failed ones
+ * @param failures    number of calls that threw
+ * @param totalNanos  accumulated latency of all calls
+ * @param histogram   log2 latency buckets
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public record StageSnapshot(String pipeline, String stage, long invocations, long failures, long totalNanos,
+                            long[] histogram) {
+
+    /**
+     * @return mean latency in nanoseconds, or {@code 0} if the stage was never invoked
+     */
+    public double meanNanos() {
+        return invocations == 0 ? 0 : (double) totalNanos / invocations;
+    }
+
+    /**
+     * Estimates a latency percentile from the histogram.
+     *
+     * @param percentile a value in {@code [0, 1]}, e.g. {@code 0.99}
+     * @return the upper bound, in nanoseconds, of the bucket holding the requested percentile
+     * @throws IllegalArgumentException if {@code percentile} is out of range
+     */
+    public long percentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be within [0, 1]: " + percentile);
+        }
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank && seen > 0) {
+                return i == 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+            }
+        }
+        return 0;
+    }
+}
@@ -19,6 +19,13 @@ public class StreamCollectors {
         List<Employee> collect = employees2.stream()
                 .collect(new ConcurrentStreamCollector<>());  // custom collector
         collect.forEach(System.out::println);
+
+        List<Employee> ordered = employees2.parallelStream()
+                .collect(ChunkedStreamCollector.ordered(employees2.size()));  // chunked, keeps encounter order
+        ordered.forEach(System.out::println);
+
+        System.out.println(employees2.stream()
+                                   .collect(SimdCollectors.summingDouble(e -> e.salary)));  // reduced a block of primitives at a time
     }
 
     private static final class Employee {
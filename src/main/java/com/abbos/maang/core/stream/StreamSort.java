@@ -45,6 +45,11 @@ public class StreamSort {
                 .sorted(Comparator.comparing(employee -> employee.salary, Comparator.reverseOrder()))
                 .forEach(System.out::println);
 
+        // top 2 employees by salary without sorting the whole stream: O(n log k)
+        employees.parallelStream()
+                .collect(TopKCollectors.topKByDouble(2, employee -> employee.salary))
+                .forEach(System.out::println);
+
         /*
          * Sort employees based on their salary range:
          *
@@ -73,6 +78,14 @@ public class StreamSort {
                 ).reversed()) // Reverse order
                 .forEach(System.out::println);
 
+        // same order, but the vowel count is computed once per word instead of on every comparison
+        String[] words = {"cherry", "banana", "apple", "pineapple"};
+        KeySort.sortByInt(words, (String value) ->
+                -(int) value.chars()
+                        .filter(c -> "aeiou".indexOf(Character.toLowerCase(c)) >= 0)
+                        .count());
+        System.out.println(String.join(", ", words));
+
         System.out.println("task ---");
 
         //  Sort a Map by Value in Descending Order
@@ -0,0 +1,38 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps an object to a primitive {@code double} without boxing. It is the primitive counterpart of
+ * {@link MapperFunction}, not a subtype of it; {@link MapperStream#mapToDouble} ends the object stages of a pipeline
+ * with one.
+ *
+ * @param <T> the source type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface ToDoubleMapperFunction<T> {
+
+    double map(T source);
+
+    default ToDoubleMapperFunction<T> andThen(DoubleUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default ToIntMapperFunction<T> andThenToInt(DoubleToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default ToLongMapperFunction<T> andThenToLong(DoubleToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default <V> MapperFunction<T, V> andThenToObj(DoubleMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+}
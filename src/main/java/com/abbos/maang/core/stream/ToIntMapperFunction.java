@@ -0,0 +1,37 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps an object to a primitive {@code int} without boxing. It is the primitive counterpart of {@link MapperFunction},
+ * not a subtype of it; {@link MapperStream#mapToInt} ends the object stages of a pipeline with one.
+ *
+ * @param <T> the source type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface ToIntMapperFunction<T> {
+
+    int map(T source);
+
+    default ToIntMapperFunction<T> andThen(IntUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default ToLongMapperFunction<T> andThenToLong(IntToLongMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default ToDoubleMapperFunction<T> andThenToDouble(IntToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default <V> MapperFunction<T, V> andThenToObj(IntMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+}
@@ -0,0 +1,37 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Objects;
+
+/**
+ * Maps an object to a primitive {@code long} without boxing. It is the primitive counterpart of {@link MapperFunction},
+ * not a subtype of it; {@link MapperStream#mapToLong} ends the object stages of a pipeline with one.
+ *
+ * @param <T> the source type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@FunctionalInterface
+public interface ToLongMapperFunction<T> {
+
+    long map(T source);
+
+    default ToLongMapperFunction<T> andThen(LongUnaryMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default ToIntMapperFunction<T> andThenToInt(LongToIntMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default ToDoubleMapperFunction<T> andThenToDouble(LongToDoubleMapperFunction after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+
+    default <V> MapperFunction<T, V> andThenToObj(LongMapperFunction<? extends V> after) {
+        Objects.requireNonNull(after);
+        return (T source) -> after.map(map(source));
+    }
+}
@@ -0,0 +1,323 @@
+package com.abbos.maang.core.stream;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Bounded-heap collectors that keep only the {@code k} greatest elements of a stream, plus an in-place
+ * {@link #partialSort(Object[], int, Comparator) partial sort}.
+ * <p>
+ * Each split of a stream maintains its own min-heap of at most {@code k} elements, so accumulation costs
+ * {@code O(n log k)} instead of the {@code O(n log n)} of {@code sorted().limit(k)}, and memory stays {@code O(k)}.
+ * In parallel streams the combiner offers the smaller heap into the larger one. The primitive-key variants extract
+ * the key once per element into a {@code long[]} beside the values, so keys are never boxed or recomputed.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * List<Employee> top = employees.parallelStream()
+ *         .collect(TopKCollectors.topKByDouble(100, e -> e.salary));  // highest salary first
+ * }</pre>
+ * <p>
+ * For the {@code k} smallest elements pass a reversed comparator or a negated key.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class TopKCollectors {
+
+    private static final Collector.Characteristics[] UNORDERED = {Collector.Characteristics.UNORDERED};
+
+    private TopKCollectors() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * @param k          the number of elements to keep
+     * @param comparator the order; the greatest elements are kept
+     * @return a collector producing at most {@code k} elements, greatest first
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> Collector<T, ?, List<T>> topK(int k, Comparator<? super T> comparator) {
+        checkK(k);
+        Objects.requireNonNull(comparator, "comparator must not be null");
+        return Collector.of(() -> new ObjectHeap<T>(k, comparator), ObjectHeap::offer, ObjectHeap::merge,
+                            ObjectHeap::drain, UNORDERED);
+    }
+
+    /**
+     * @param k   the number of elements to keep
+     * @param key extracts an {@code int} key, evaluated once per element
+     * @return a collector producing at most {@code k} elements, highest key first
+     */
+    public static <T> Collector<T, ?, List<T>> topKByInt(int k, ToIntFunction<? super T> key) {
+        Objects.requireNonNull(key, "key must not be null");
+        return topKByKey(k, element -> key.applyAsInt(element));
+    }
+
+    /**
+     * @param k   the number of elements to keep
+     * @param key extracts a {@code long} key, evaluated once per element
+     * @return a collector producing at most {@code k} elements, highest key first
+     */
+    public static <T> Collector<T, ?, List<T>> topKByLong(int k, ToLongFunction<? super T> key) {
+        Objects.requireNonNull(key, "key must not be null");
+        return topKByKey(k, key);
+    }
+
+    /**
+     * Keys are ordered as by {@link Double#compare(double, double)}.
+     *
+     * @param k   the number of elements to keep
+     * @param key extracts a {@code double} key, evaluated once per element
+     * @return a collector producing at most {@code k} elements, highest key first
+     */
+    public static <T> Collector<T, ?, List<T>> topKByDouble(int k, ToDoubleFunction<? super T> key) {
+        Objects.requireNonNull(key, "key must not be null");
+        return topKByKey(k, element -> SortKeys.sortable(key.applyAsDouble(element)));
+    }
+
+    private static <T> Collector<T, ?, List<T>> topKByKey(int k, ToLongFunction<? super T> key) {
+        checkK(k);
+        return Collector.of(() -> new KeyedHeap<T>(k, key), KeyedHeap::offer, KeyedHeap::merge,
+                            KeyedHeap::drain, UNORDERED);
+    }
+
+    /**
+     * Rearranges the array so that its first {@code k} positions hold the {@code k} smallest elements in ascending
+     * order. The order of the remaining elements is unspecified.
+     * <p>
+     * Runs in {@code O(n log k)} time and in place.
+     *
+     * @param array      the array to rearrange
+     * @param k          the number of leading elements to sort
+     * @param comparator the order
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public static <T> void partialSort(T[] array, int k, Comparator<? super T> comparator) {
+        checkK(k);
+        Objects.requireNonNull(comparator, "comparator must not be null");
+        if (k >= array.length) {
+            Arrays.sort(array, comparator);
+            return;
+        }
+        if (k == 0) {
+            return;
+        }
+        Comparator<? super T> reversed = comparator.reversed();
+        for (int i = (k >>> 1) - 1; i >= 0; i--) {
+            siftDown(array, i, k, reversed);
+        }
+        for (int i = k; i < array.length; i++) {
+            if (comparator.compare(array[i], array[0]) < 0) {
+                T swap = array[0];
+                array[0] = array[i];
+                array[i] = swap;
+                siftDown(array, 0, k, reversed);
+            }
+        }
+        Arrays.sort(array, 0, k, comparator);
+    }
+
+    /**
+     * List variant of {@link #partialSort(Object[], int, Comparator)}.
+     *
+     * @param list       a modifiable list
+     * @param k          the number of leading elements to sort
+     * @param comparator the order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void partialSort(List<T> list, int k, Comparator<? super T> comparator) {
+        Object[] array = list.toArray();
+        partialSort((T[]) array, k, (Comparator<Object>) comparator);
+        ListIterator<T> iterator = list.listIterator();
+        for (Object element : array) {
+            iterator.next();
+            iterator.set((T) element);
+        }
+    }
+
+    private static void checkK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+    }
+
+    /**
+     * Restores the min-heap property of {@code heap[0, size)} below {@code index}.
+     */
+    private static <T> void siftDown(T[] heap, int index, int size, Comparator<? super T> comparator) {
+        T value = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && comparator.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (comparator.compare(value, heap[child]) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    private static int grow(int length, int k) {
+        return (int) Math.min(k, Math.max(16L, (long) length << 1));
+    }
+
+    private static final class ObjectHeap<T> {
+        private final int k;
+        private final Comparator<? super T> comparator;
+        private T[] heap;
+        private int size;
+
+        @SuppressWarnings("unchecked")
+        ObjectHeap(int k, Comparator<? super T> comparator) {
+            this.k = k;
+            this.comparator = comparator;
+            this.heap = (T[]) new Object[Math.min(k, 16)];
+        }
+
+        void offer(T element) {
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, grow(heap.length, k));
+                }
+                int index = size++;
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (comparator.compare(element, heap[parent]) >= 0) {
+                        break;
+                    }
+                    heap[index] = heap[parent];
+                    index = parent;
+                }
+                heap[index] = element;
+            } else if (k > 0 && comparator.compare(element, heap[0]) > 0) {
+                heap[0] = element;
+                siftDown(heap, 0, size, comparator);
+            }
+        }
+
+        ObjectHeap<T> merge(ObjectHeap<T> other) {
+            ObjectHeap<T> into = size >= other.size ? this : other;
+            ObjectHeap<T> from = into == this ? other : this;
+            for (int i = 0; i < from.size; i++) {
+                into.offer(from.heap[i]);
+            }
+            return into;
+        }
+
+        List<T> drain() {
+            T[] result = Arrays.copyOf(heap, size);
+            for (int last = size - 1; last > 0; last--) {
+                T min = result[0];
+                result[0] = result[last];
+                result[last] = min;
+                siftDown(result, 0, last, comparator);
+            }
+            return Arrays.asList(result);
+        }
+    }
+
+    private static final class KeyedHeap<T> {
+        private final int k;
+        private final ToLongFunction<? super T> key;
+        private long[] keys;
+        private Object[] values;
+        private int size;
+
+        KeyedHeap(int k, ToLongFunction<? super T> key) {
+            this.k = k;
+            this.key = key;
+            this.keys = new long[Math.min(k, 16)];
+            this.values = new Object[keys.length];
+        }
+
+        void offer(T element) {
+            put(key.applyAsLong(element), element);
+        }
+
+        private void put(long elementKey, Object element) {
+            if (size < k) {
+                if (size == keys.length) {
+                    int capacity = grow(keys.length, k);
+                    keys = Arrays.copyOf(keys, capacity);
+                    values = Arrays.copyOf(values, capacity);
+                }
+                int index = size++;
+                while (index > 0) {
+                    int parent = (index - 1) >>> 1;
+                    if (elementKey >= keys[parent]) {
+                        break;
+                    }
+                    keys[index] = keys[parent];
+                    values[index] = values[parent];
+                    index = parent;
+                }
+                keys[index] = elementKey;
+                values[index] = element;
+            } else if (k > 0 && elementKey > keys[0]) {
+                keys[0] = elementKey;
+                values[0] = element;
+                siftDown(keys, values, size);
+            }
+        }
+
+        KeyedHeap<T> merge(KeyedHeap<T> other) {
+            KeyedHeap<T> into = size >= other.size ? this : other;
+            KeyedHeap<T> from = into == this ? other : this;
+            for (int i = 0; i < from.size; i++) {
+                into.put(from.keys[i], from.values[i]);
+            }
+            return into;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> drain() {
+            long[] resultKeys = Arrays.copyOf(keys, size);
+            Object[] result = Arrays.copyOf(values, size);
+            for (int last = size - 1; last > 0; last--) {
+                long minKey = resultKeys[0];
+                Object min = result[0];
+                resultKeys[0] = resultKeys[last];
+                result[0] = result[last];
+                resultKeys[last] = minKey;
+                result[last] = min;
+                siftDown(resultKeys, result, last);
+            }
+            return (List<T>) Arrays.asList(result);
+        }
+
+        private static void siftDown(long[] keys, Object[] values, int size) {
+            long key = keys[0];
+            Object value = values[0];
+            int index = 0;
+            int half = size >>> 1;
+            while (index < half) {
+                int child = (index << 1) + 1;
+                int right = child + 1;
+                if (right < size && keys[right] < keys[child]) {
+                    child = right;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[index] = keys[child];
+                values[index] = values[child];
+                index = child;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * Demo source type of the {@link MapperStream} example.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+class User {
+    String name;
+    int age;
+
+    public User(String name, int age) {
+        this.name = name;
+        this.age = age;
+    }
+}
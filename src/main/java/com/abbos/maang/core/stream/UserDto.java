@@ -0,0 +1,10 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * Demo target type of the {@link MapperStream} example, generated as {@code UserToUserDtoMapper}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+record UserDto(String name, int age) {
+}
@@ -0,0 +1,225 @@
+package com.abbos.maang.core.stream;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@code jdk.incubator.vector} loops behind {@link SimdAggregates}.
+ * <p>
+ * Only {@link SimdAggregates} references this class, and only after it has checked that the incubator module is in
+ * the boot layer, so the class is never loaded on a JVM started without {@code --add-modules jdk.incubator.vector}.
+ * Every loop processes {@code SPECIES.length()} lanes per iteration up to {@code loopBound} and finishes the tail
+ * with scalar code.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+final class VectorKernels {
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private VectorKernels() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    static double sum(double[] a, int from, int to) {
+        DoubleVector acc = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Widens each {@code int} lane to {@code long} before adding, so the sum cannot overflow for any array length.
+     */
+    static long sum(int[] a, int from, int to) {
+        LongVector low = LongVector.zero(LONGS);
+        LongVector high = LongVector.zero(LONGS);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            low = low.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 0));
+            high = high.add((LongVector) v.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        long sum = low.add(high).reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    static long sum(long[] a, int from, int to) {
+        LongVector acc = LongVector.zero(LONGS);
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, a, i));
+        }
+        long sum = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    static double min(double[] a, int from, int to) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static double max(double[] a, int from, int to) {
+        DoubleVector acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLES, a, i));
+        }
+        double max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static int min(int[] a, int from, int to) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, a, i));
+        }
+        int min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static int max(int[] a, int from, int to) {
+        IntVector acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, a, i));
+        }
+        int max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static long min(long[] a, int from, int to) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            acc = acc.min(LongVector.fromArray(LONGS, a, i));
+        }
+        long min = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static long max(long[] a, int from, int to) {
+        LongVector acc = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            acc = acc.max(LongVector.fromArray(LONGS, a, i));
+        }
+        long max = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static int countInRange(double[] a, int from, int to, double low, double high) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high)).trueCount();
+        }
+        for (; i < to; i++) {
+            if (a[i] >= low && a[i] < high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int countInRange(int[] a, int from, int to, int low, int high) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector v = IntVector.fromArray(INTS, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high)).trueCount();
+        }
+        for (; i < to; i++) {
+            if (a[i] >= low && a[i] < high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int countInRange(long[] a, int from, int to, long low, long high) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            LongVector v = LongVector.fromArray(LONGS, a, i);
+            count += v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high)).trueCount();
+        }
+        for (; i < to; i++) {
+            if (a[i] >= low && a[i] < high) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Computes the bin of a whole vector at once; out-of-range lanes are blended to {@code -1} and skipped by the
+     * scalar increment loop, since there is no scatter-add instruction to vectorize the counting itself.
+     */
+    static void histogram(double[] a, int from, int to, double low, double high, long[] counts) {
+        int bins = counts.length;
+        double scale = bins / (high - low);
+        double[] slots = new double[DOUBLES.length()];
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector v = DoubleVector.fromArray(DOUBLES, a, i);
+            VectorMask<Double> inRange = v.compare(VectorOperators.GE, low).and(v.compare(VectorOperators.LT, high));
+            v.sub(low).mul(scale).min(bins - 1)
+                    .blend(-1, inRange.not())
+                    .intoArray(slots, 0);
+            for (double slot : slots) {
+                if (slot >= 0) {
+                    counts[(int) slot]++;
+                }
+            }
+        }
+        for (; i < to; i++) {
+            if (a[i] >= low && a[i] < high) {
+                counts[Math.min(bins - 1, (int) ((a[i] - low) * scale))]++;
+            }
+        }
+    }
+}
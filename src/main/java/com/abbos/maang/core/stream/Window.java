@@ -0,0 +1,14 @@
+package com.abbos.maang.core.stream;
+
+/**
+ * A result emitted by {@link WindowAggregator}.
+ *
+ * @param start  inclusive start of the window, in event-time millis or element sequence numbers
+ * @param end    exclusive end of the window, in the same unit as {@code start}
+ * @param result the aggregate of the elements in {@code [start, end)}
+ * @param <R>    the result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public record Window<R>(long start, long end, R result) {
+}
@@ -0,0 +1,399 @@
+package com.abbos.maang.core.stream;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Tumbling, sliding and session windows over an unbounded feed, aggregated with an ordinary {@link Collector}.
+ * <p>
+ * A collector only finishes when its stream ends. This class instead splits the feed into windows, keyed either by
+ * an event-time timestamp or by the element's sequence number, and hands every window to a sink as soon as it is
+ * complete. Elements are never buffered. Sliding windows given a {@code merge} function over results accumulate each
+ * element once, into a <em>pane</em> of length {@code gcd(size, slide)}, and a window's result is its panes'
+ * finished results folded with {@code merge}: O(1) per element, {@code size / pane} finisher and merge calls per
+ * emitted window, and one accumulation per pane of the open windows. Without {@code merge}, each element is
+ * accumulated into every open window that contains it: O({@code size / slide}) per element, and a collector that
+ * keeps its elements, such as {@link java.util.stream.Collectors#toList()}, holds every element {@code size / slide}
+ * times. Tumbling windows have exactly one window per element and need no merge. The collector's combiner is never
+ * called, so collectors whose combiner folds one argument into the other, such as
+ * {@link java.util.stream.Collectors#toSet()}, are safe and emitted results never share state. Session windows keep
+ * a single accumulation that closes after {@code gap} without events.
+ * <p>
+ * Event-time windows are complete once an element or {@link #advanceTo(long) watermark} at or past their end arrives.
+ * Count windows are emitted right after their last element. Elements too old for any open window are dropped and
+ * counted by {@link #late()}. {@link #flush()} emits whatever is still open, e.g. when the feed ends.
+ * <p>
+ * The sink may be a {@link java.util.concurrent.SubmissionPublisher#submit} reference to expose the windows as a
+ * {@link java.util.concurrent.Flow.Publisher}. Instances are not thread-safe; feed them from one thread or subscriber.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * SubmissionPublisher<Window<Double>> revenue = new SubmissionPublisher<>();
+ * WindowAggregator<Order, ?, Double> perMinute = WindowAggregator.sliding(
+ *         Duration.ofMinutes(5), Duration.ofMinutes(1), Order::createdAt,
+ *         Collectors.summingDouble(Order::amount), Double::sum, revenue::submit);
+ * feed.subscribe(perMinute::accept);
+ * }</pre>
+ *
+ * @param <T> the element type
+ * @param <A> the collector's accumulation type
+ * @param <R> the window result type
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public final class WindowAggregator<T, A, R> implements Consumer<T>, AutoCloseable {
+
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, ? super T> accumulator;
+    private final Function<A, R> finisher;
+    /**
+     * Folds pane results into window results, or {@code null} to accumulate every window separately.
+     */
+    private final BinaryOperator<R> merge;
+    private final Consumer<? super Window<R>> sink;
+    private final ToLongFunction<? super T> key;
+    /**
+     * {@code gcd(size, slide)}: window bounds, in units of {@code pane}, are integers.
+     */
+    private final long pane;
+    private final int panesPerWindow;
+    private final int panesPerSlide;
+    private final long gap;
+    /**
+     * Open panes keyed by pane index with {@code merge}, open windows keyed by their end without; sorted by key.
+     */
+    private final ArrayDeque<Slot<A>> slots = new ArrayDeque<>();
+
+    private long sequence;
+    private long nextEnd = Long.MIN_VALUE;
+    private long late;
+
+    private A session;
+    private long sessionStart;
+    private long sessionLast;
+
+    private WindowAggregator(Collector<? super T, A, R> collector, BinaryOperator<R> merge,
+                             Consumer<? super Window<R>> sink, ToLongFunction<? super T> key,
+                             long size, long slide, long gap) {
+        Objects.requireNonNull(collector, "collector must not be null");
+        this.supplier = collector.supplier();
+        this.accumulator = collector.accumulator();
+        this.finisher = collector.finisher();
+        this.merge = merge;
+        this.sink = Objects.requireNonNull(sink, "sink must not be null");
+        this.key = key;
+        this.gap = gap;
+        if (gap > 0) {
+            this.pane = 0;
+            this.panesPerWindow = 0;
+            this.panesPerSlide = 0;
+            return;
+        }
+        if (size <= 0 || slide <= 0 || slide > size) {
+            throw new IllegalArgumentException("Invalid window: size %d, slide %d".formatted(size, slide));
+        }
+        this.pane = gcd(size, slide);
+        this.panesPerWindow = Math.toIntExact(size / pane);
+        this.panesPerSlide = Math.toIntExact(slide / pane);
+    }
+
+    /**
+     * Non-overlapping event-time windows of {@code size}.
+     *
+     * @param timestamp extracts the event time in epoch millis
+     */
+    public static <T, A, R> WindowAggregator<T, A, R> tumbling(Duration size, ToLongFunction<? super T> timestamp,
+                                                              Collector<? super T, A, R> collector,
+                                                              Consumer<? super Window<R>> sink) {
+        return sliding(size, size, timestamp, collector, sink);
+    }
+
+    /**
+     * Event-time windows of {@code size}, one starting every {@code slide}.
+     * The first windows are partial: they start before the first event.
+     *
+     * @param timestamp extracts the event time in epoch millis
+     */
+    public static <T, A, R> WindowAggregator<T, A, R> sliding(Duration size, Duration slide,
+                                                             ToLongFunction<? super T> timestamp,
+                                                             Collector<? super T, A, R> collector,
+                                                             Consumer<? super Window<R>> sink) {
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        return new WindowAggregator<>(collector, null, sink, timestamp, size.toMillis(), slide.toMillis(), 0);
+    }
+
+    /**
+     * Event-time windows of {@code size}, one starting every {@code slide}, built from pre-aggregated panes.
+     * The first windows are partial: they start before the first event.
+     *
+     * @param timestamp extracts the event time in epoch millis
+     * @param merge     combines two results into a new one; it must not modify its arguments
+     */
+    public static <T, A, R> WindowAggregator<T, A, R> sliding(Duration size, Duration slide,
+                                                             ToLongFunction<? super T> timestamp,
+                                                             Collector<? super T, A, R> collector,
+                                                             BinaryOperator<R> merge,
+                                                             Consumer<? super Window<R>> sink) {
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        Objects.requireNonNull(merge, "merge must not be null");
+        return new WindowAggregator<>(collector, merge, sink, timestamp, size.toMillis(), slide.toMillis(), 0);
+    }
+
+    /**
+     * Non-overlapping windows of {@code size} consecutive elements.
+     */
+    public static <T, A, R> WindowAggregator<T, A, R> tumbling(int size, Collector<? super T, A, R> collector,
+                                                              Consumer<? super Window<R>> sink) {
+        return sliding(size, size, collector, sink);
+    }
+
+    /**
+     * Windows of the last {@code size} elements, emitted after every {@code slide} elements.
+     * As with event time, the first windows are partial.
+     */
+    public static <T, A, R> WindowAggregator<T, A, R> sliding(int size, int slide, Collector<? super T, A, R> collector,
+                                                             Consumer<? super Window<R>> sink) {
+        return new WindowAggregator<>(collector, null, sink, null, size, slide, 0);
+    }
+
+    /**
+     * Windows of the last {@code size} elements, emitted after every {@code slide} elements and built from
+     * pre-aggregated panes. As with event time, the first windows are partial.
+     *
+     * @param merge combines two results into a new one; it must not modify its arguments
+     */
+    public static <T, A, R> WindowAggregator<T, A, R> sliding(int size, int slide, Collector<? super T, A, R> collector,
+                                                             BinaryOperator<R> merge,
+                                                             Consumer<? super Window<R>> sink) {
+        Objects.requireNonNull(merge, "merge must not be null");
+        return new WindowAggregator<>(collector, merge, sink, null, size, slide, 0);
+    }
+
+    /**
+     * Windows of events separated by less than {@code gap}; a window ends {@code gap} after its last event.
+     *
+     * @param timestamp extracts the event time in epoch millis
+     */
+    public static <T, A, R> WindowAggregator<T, A, R> session(Duration gap, ToLongFunction<? super T> timestamp,
+                                                             Collector<? super T, A, R> collector,
+                                                             Consumer<? super Window<R>> sink) {
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        if (gap.toMillis() <= 0) {
+            throw new IllegalArgumentException("gap must be positive: " + gap);
+        }
+        return new WindowAggregator<>(collector, null, sink, timestamp, 0, 0, gap.toMillis());
+    }
+
+    @Override
+    public void accept(T element) {
+        long k = key == null ? sequence++ : key.applyAsLong(element);
+        if (gap > 0) {
+            acceptSession(element, k);
+            return;
+        }
+        long index = Math.floorDiv(k, pane);
+        if (nextEnd == Long.MIN_VALUE) {
+            nextEnd = alignAbove(index);
+        } else if (index < nextEnd - panesPerWindow) {
+            late++;
+            return;
+        }
+        advance(index);
+        if (merge != null) {
+            accumulator.accept(slot(index), element);
+        } else {
+            for (long end = nextEnd; end <= index + panesPerWindow; end += panesPerSlide) {
+                accumulator.accept(slot(end), element);
+            }
+        }
+        if (key == null) {
+            advance(Math.floorDiv(sequence, pane));
+        }
+    }
+
+    /**
+     * Declares that no event older than {@code watermark} will arrive, emitting every window that ends at or before
+     * it. Lets a quiet event-time feed still emit windows on a clock tick.
+     *
+     * @param watermark event time in epoch millis
+     * @throws IllegalStateException for count windows
+     */
+    public void advanceTo(long watermark) {
+        if (key == null) {
+            throw new IllegalStateException("Count windows have no watermark");
+        }
+        if (gap > 0) {
+            if (session != null && watermark >= sessionLast + gap) {
+                closeSession();
+            }
+        } else if (nextEnd != Long.MIN_VALUE) {
+            advance(Math.floorDiv(watermark, pane));
+        }
+    }
+
+    /**
+     * Emits every window that still holds elements, complete or not.
+     */
+    public void flush() {
+        if (gap > 0) {
+            if (session != null) {
+                closeSession();
+            }
+        } else if (!slots.isEmpty()) {
+            advance(merge != null ? slots.peekLast().key + panesPerWindow : slots.peekLast().key);
+        }
+    }
+
+    /**
+     * Same as {@link #flush()}.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+
+    /**
+     * @return the number of elements dropped because every window they belong to was already emitted
+     */
+    public long late() {
+        return late;
+    }
+
+    private void acceptSession(T element, long timestamp) {
+        if (session != null) {
+            if (timestamp < sessionStart) {
+                late++;
+                return;
+            }
+            if (timestamp >= sessionLast + gap) {
+                closeSession();
+            }
+        }
+        if (session == null) {
+            session = supplier.get();
+            sessionStart = timestamp;
+            sessionLast = timestamp;
+        }
+        accumulator.accept(session, element);
+        sessionLast = Math.max(sessionLast, timestamp);
+    }
+
+    private void closeSession() {
+        A closed = session;
+        session = null;
+        sink.accept(new Window<>(sessionStart, sessionLast + gap, finisher.apply(closed)));
+    }
+
+    /**
+     * Emits, in order, every window ending at or before pane {@code current}; windows without elements were never
+     * opened and are skipped.
+     */
+    private void advance(long current) {
+        if (merge != null) {
+            advancePanes(current);
+            return;
+        }
+        if (nextEnd > current) {
+            return;
+        }
+        while (!slots.isEmpty() && slots.peekFirst().key <= current) {
+            Slot<A> window = slots.pollFirst();
+            sink.accept(new Window<>((window.key - panesPerWindow) * pane, window.key * pane,
+                                     finisher.apply(window.accumulation)));
+        }
+        nextEnd = alignAbove(current);
+    }
+
+    private void advancePanes(long current) {
+        while (nextEnd <= current) {
+            Slot<A> first = slots.peekFirst();
+            if (first == null) {
+                nextEnd = Math.max(nextEnd, alignAbove(current));
+                return;
+            }
+            if (first.key >= nextEnd) {
+                nextEnd = alignAbove(first.key);
+                continue;
+            }
+            emitPanes(nextEnd);
+            nextEnd += panesPerSlide;
+            while (!slots.isEmpty() && slots.peekFirst().key < nextEnd - panesPerWindow) {
+                slots.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Folds the panes of the window ending at {@code end}, starting from the empty result so that the emitted one is
+     * always a fresh {@code merge} result and never a pane's own state.
+     */
+    private void emitPanes(long end) {
+        R result = finisher.apply(supplier.get());
+        for (Slot<A> p : slots) {
+            if (p.key >= end) {
+                break;
+            }
+            result = merge.apply(result, finisher.apply(p.accumulation));
+        }
+        sink.accept(new Window<>((end - panesPerWindow) * pane, end * pane, result));
+    }
+
+    /**
+     * @param key the pane index or window end, in panes
+     * @return the accumulation of that slot, opened on first use
+     */
+    private A slot(long key) {
+        Slot<A> last = slots.peekLast();
+        if (last == null || last.key < key) {
+            slots.addLast(new Slot<>(key, supplier.get()));
+            return slots.peekLast().accumulation;
+        }
+        // out-of-order element of a slot that is still open
+        Iterator<Slot<A>> it = slots.descendingIterator();
+        while (it.hasNext()) {
+            Slot<A> slot = it.next();
+            if (slot.key == key) {
+                return slot.accumulation;
+            }
+            if (slot.key < key) {
+                break;
+            }
+        }
+        A accumulation = supplier.get();
+        ArrayDeque<Slot<A>> tail = new ArrayDeque<>();
+        while (!slots.isEmpty() && slots.peekLast().key > key) {
+            tail.addFirst(slots.pollLast());
+        }
+        slots.addLast(new Slot<>(key, accumulation));
+        slots.addAll(tail);
+        return accumulation;
+    }
+
+    /**
+     * @return the end, in panes, of the first window that contains pane {@code index}
+     */
+    private long alignAbove(long index) {
+        return Math.floorDiv(index, panesPerSlide) * panesPerSlide + panesPerSlide;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private record Slot<A>(long key, A accumulation) {
+    }
+}
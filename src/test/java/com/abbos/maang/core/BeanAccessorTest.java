@@ -0,0 +1,100 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.reflection.BeanAccessor;
+import com.abbos.maang.core.reflection.FieldAccessor;
+import com.abbos.maang.core.reflection.ReflectionException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class BeanAccessorTest {
+
+    @Test
+    void of_listsHierarchyRootFirst() {
+        BeanAccessor accessor = BeanAccessor.of(Employee.class);
+
+        assertEquals(List.of("id", "active", "name", "age", "salary", "grade", "department"),
+                     IntStream.range(0, accessor.size()).mapToObj(accessor::name).toList());
+        assertSame(accessor, BeanAccessor.of(Employee.class));
+        assertEquals(-1, accessor.indexOf("missing"));
+    }
+
+    @Test
+    void getSet_byIndex() {
+        BeanAccessor accessor = BeanAccessor.of(Employee.class);
+        Employee employee = new Employee(7, "Alice", 30, 5_000.0, 'B', "R&D");
+
+        assertEquals(7L, accessor.get(employee, accessor.indexOf("id")));
+        accessor.set(employee, accessor.indexOf("name"), "Bob");
+        accessor.set(employee, accessor.indexOf("active"), true);
+
+        assertEquals("Bob", employee.name);
+        assertTrue(accessor.getBoolean(employee, accessor.indexOf("active")));
+        assertThrows(ClassCastException.class, () -> accessor.set(employee, accessor.indexOf("age"), "thirty"));
+    }
+
+    @Test
+    void typedGetters_widenWithoutBoxing() {
+        BeanAccessor accessor = BeanAccessor.of(Employee.class);
+        Employee employee = new Employee(7, "Alice", 30, 5_000.5, 'B', "R&D");
+        FieldAccessor age = accessor.accessor(accessor.indexOf("age"));
+
+        assertEquals(30, age.getInt(employee));
+        assertEquals(30L, age.getLong(employee));
+        assertEquals(30.0, age.getDouble(employee));
+        assertEquals('B', accessor.getInt(employee, accessor.indexOf("grade")));
+        assertEquals(7L, accessor.getLong(employee, accessor.indexOf("id")));
+        assertEquals(5_000.5, accessor.getDouble(employee, accessor.indexOf("salary")));
+        assertThrows(ReflectionException.class, () -> accessor.getInt(employee, accessor.indexOf("salary")));
+        assertThrows(ReflectionException.class, () -> accessor.getBoolean(employee, accessor.indexOf("name")));
+    }
+
+    @Test
+    void finalFields_areReadOnly() {
+        BeanAccessor accessor = BeanAccessor.of(Employee.class);
+        Employee employee = new Employee(7, "Alice", 30, 5_000.0, 'B', "R&D");
+        int department = accessor.indexOf("department");
+
+        assertEquals("R&D", accessor.get(employee, department));
+        assertThrows(ReflectionException.class, () -> accessor.set(employee, department, "Sales"));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.get(employee, accessor.size()));
+        assertEquals(0, BeanAccessor.of(Object.class).size());
+
+        BeanAccessor point = BeanAccessor.of(Point.class);
+        assertEquals(2, point.getInt(new Point(1, 2), point.indexOf("y")));
+    }
+
+    private static class Base {
+        private long id;
+        private boolean active;
+    }
+
+    private static final class Employee extends Base {
+        private static final int MAX_AGE = 120;
+
+        private String name;
+        private int age;
+        private double salary;
+        private char grade;
+        private final String department;
+
+        Employee(long id, String name, int age, double salary, char grade, String department) {
+            ((Base) this).id = id;
+            this.name = name;
+            this.age = age;
+            this.salary = salary;
+            this.grade = grade;
+            this.department = department;
+        }
+    }
+
+    private record Point(int x, int y) {
+    }
+}
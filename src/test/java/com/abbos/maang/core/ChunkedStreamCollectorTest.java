@@ -0,0 +1,49 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.ChunkedStreamCollector;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class ChunkedStreamCollectorTest {
+
+    @Test
+    void ordered_keepsEncounterOrderInParallel() {
+        List<Integer> expected = IntStream.range(0, 200_000).boxed().toList();
+
+        List<Integer> collected = expected.parallelStream().collect(ChunkedStreamCollector.ordered());
+
+        assertEquals(expected, collected);
+    }
+
+    @Test
+    void unordered_collectsEveryElement() {
+        List<Integer> collected = IntStream.range(0, 100_000).parallel().boxed()
+                .collect(new ChunkedStreamCollector<>(100_000));
+
+        assertEquals(100_000, collected.size());
+        assertEquals(100_000, new HashSet<>(collected).size());
+    }
+
+    @Test
+    void sizeHint_isOnlyAHint() {
+        List<Integer> expected = IntStream.range(0, 1_000).boxed().toList();
+
+        assertEquals(expected, expected.stream().collect(ChunkedStreamCollector.ordered(1_000)));
+        assertEquals(expected, expected.stream().collect(ChunkedStreamCollector.ordered(10)));
+        assertEquals(expected, expected.parallelStream().collect(ChunkedStreamCollector.ordered(1_000_000)));
+    }
+
+    @Test
+    void emptyStream() {
+        assertTrue(IntStream.range(0, 0).boxed().collect(new ChunkedStreamCollector<>()).isEmpty());
+    }
+}
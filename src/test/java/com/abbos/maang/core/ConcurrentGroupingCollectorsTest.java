@@ -0,0 +1,51 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.ConcurrentGroupingCollectors;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class ConcurrentGroupingCollectorsTest {
+
+    private static final List<Integer> DATA = new Random(5).ints(200_000, -500, 500).boxed().toList();
+
+    @Test
+    void countingBy_matchesGroupingBy() {
+        Map<Integer, Long> expected = DATA.stream().collect(Collectors.groupingBy(i -> i % 7, Collectors.counting()));
+
+        assertEquals(expected, DATA.parallelStream().collect(ConcurrentGroupingCollectors.countingBy(i -> i % 7)));
+        assertEquals(expected, DATA.parallelStream().collect(ConcurrentGroupingCollectors.countingByInt(i -> i % 7)));
+    }
+
+    @Test
+    void summingBy_matchesGroupingBy() {
+        Map<Boolean, Long> expected = DATA.stream()
+                .collect(Collectors.groupingBy(i -> i > 0, Collectors.summingLong(Integer::longValue)));
+
+        assertEquals(expected, DATA.parallelStream()
+                .collect(ConcurrentGroupingCollectors.summingLongBy(i -> i > 0, Integer::longValue)));
+        assertEquals(Map.of(0, DATA.stream().mapToLong(Integer::longValue).sum()), DATA.parallelStream()
+                .collect(ConcurrentGroupingCollectors.summingLongByInt(i -> 0, Integer::longValue)));
+
+        Map<Integer, Double> doubles = DATA.parallelStream()
+                .collect(ConcurrentGroupingCollectors.summingDoubleBy(Function.identity(), i -> 0.5));
+        assertEquals(DATA.stream().filter(i -> i == 3).count() * 0.5, doubles.get(3), 1e-9);
+    }
+
+    @Test
+    void partitioningCount_matchesPartitioningBy() {
+        Map<Boolean, Long> expected = DATA.stream().collect(Collectors.partitioningBy(i -> i % 2 == 0, Collectors.counting()));
+
+        assertEquals(expected, DATA.parallelStream().collect(ConcurrentGroupingCollectors.partitioningCount(i -> i % 2 == 0)));
+    }
+}
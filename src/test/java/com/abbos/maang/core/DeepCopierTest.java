@@ -0,0 +1,360 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.reflection.DeepCopier;
+import com.abbos.maang.core.reflection.ReflectionException;
+import com.abbos.maang.data_structures.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class DeepCopierTest {
+
+    @Test
+    void copy_copiesFieldsAcrossHierarchy() {
+        Employee source = new Employee(7, "Alice", new int[]{1, 2, 3}, new Point(1, 2));
+        source.tags = new String[]{"a", "b"};
+        source.joined = LocalDate.of(2024, 1, 1);
+        source.hired = new Date(1_000);
+
+        Employee copy = DeepCopier.copy(source);
+
+        assertNotSame(source, copy);
+        assertEquals(7, copy.id);
+        assertSame(source.name, copy.name);
+        assertSame(source.location, copy.location);
+        assertSame(source.joined, copy.joined);
+        assertArrayEquals(source.scores, copy.scores);
+        assertNotSame(source.scores, copy.scores);
+        assertArrayEquals(source.tags, copy.tags);
+        assertNotSame(source.tags, copy.tags);
+        assertEquals(source.hired, copy.hired);
+        assertNotSame(source.hired, copy.hired);
+        assertNull(DeepCopier.copy(null));
+    }
+
+    @Test
+    void copy_preservesSharingAndCycles() {
+        Node first = new Node("first");
+        Node second = new Node("second");
+        first.next = second;
+        second.next = first;
+        Node[] nodes = {first, second, first};
+
+        Node[] copy = DeepCopier.copy(nodes);
+
+        assertNotSame(first, copy[0]);
+        assertSame(copy[0], copy[2]);
+        assertSame(copy[1], copy[0].next);
+        assertSame(copy[0], copy[1].next);
+        assertEquals("second", copy[1].name);
+    }
+
+    @Test
+    void copy_walksLongChainsWithoutRecursion() {
+        Node head = new Node("0");
+        Node tail = head;
+        for (int i = 1; i < 200_000; i++) {
+            tail.next = new Node(Integer.toString(i));
+            tail = tail.next;
+        }
+
+        Node copy = DeepCopier.copy(head);
+
+        int length = 0;
+        for (Node node = copy; node != null; node = node.next) {
+            assertNotSame(head, node);
+            length++;
+        }
+        assertEquals(200_000, length);
+    }
+
+    @Test
+    void copy_rebuildsCollections() {
+        Key key = new Key("k");
+        Map<Key, List<Key>> map = new HashMap<>(Map.of(key, new ArrayList<>(List.of(key))));
+        TreeMap<String, Integer> sorted = new TreeMap<>(Comparator.reverseOrder());
+        sorted.putAll(Map.of("a", 1, "b", 2));
+        Holder source = new Holder(map, sorted, Set.of(key), EnumSet.of(TimeUnit.SECONDS), List.of("x", "y"));
+
+        Holder copy = DeepCopier.copy(source);
+
+        Key copiedKey = copy.map.keySet().iterator().next();
+        assertNotSame(key, copiedKey);
+        assertSame(copiedKey, copy.map.get(copiedKey).getFirst());
+        assertTrue(copy.keys.contains(copiedKey));
+        assertEquals(List.of("b", "a"), List.copyOf(copy.sorted.keySet()));
+        assertEquals(EnumSet.of(TimeUnit.SECONDS), copy.units);
+        assertNotSame(source.units, copy.units);
+        assertSame(source.names, copy.names);
+    }
+
+    @Test
+    void copy_keepsHashKeysConsistent() {
+        Set<Key> keys = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(new Key("key" + i));
+        }
+
+        Set<Key> copy = DeepCopier.copy(keys);
+
+        assertEquals(keys, copy);
+        assertTrue(copy.contains(new Key("key42")));
+        assertNotSame(keys.iterator().next(), copy.iterator().next());
+    }
+
+    @Test
+    void copy_completesKeysCopiedEarlierBeforeHashingThem() {
+        Id first = new Id(1);
+        Set<Id> ids = Set.of(first, new Id(2), new Id(3));
+        Map<Id, Integer> counts = Map.of(first, 1, new Id(2), 2, new Id(3), 3);
+        LinkedHashMap<String, Object> named = new LinkedHashMap<>();
+        named.put("a", first);
+        named.put("b", counts);
+
+        List<Object> list = DeepCopier.copy(new ArrayList<>(List.of(first, ids)));
+        LinkedHashMap<String, Object> map = DeepCopier.copy(named);
+        Object[] array = DeepCopier.copy(new Object[]{first, new Object[]{ids}, ids, counts});
+
+        assertTrue(((Set<?>) list.get(1)).contains(new Id(1)));
+        assertEquals(1, ((Map<?, ?>) map.get("b")).get(new Id(1)));
+        assertTrue(((Set<?>) array[2]).contains(new Id(1)));
+        assertEquals(1, ((Map<?, ?>) array[3]).get(new Id(1)));
+        assertSame(array[2], ((Object[]) array[1])[0]);
+    }
+
+    @Test
+    void copy_rejectsClosedClasses() {
+        Holder holder = new Holder(null, null, null, null, List.of(Thread.currentThread()));
+
+        assertThrows(ReflectionException.class, () -> DeepCopier.copy(holder));
+        assertSame(Pair.of("a", "b").getClass(), DeepCopier.copy(Pair.of("a", "b")).getClass());
+    }
+
+    @Test
+    void copy_rebuildsCollectionsWithoutPublicConstructors() {
+        Key key = new Key("k");
+        List<Key> fixed = Arrays.asList(key, new Key("j"));
+        List<Key> view = Collections.unmodifiableList(new ArrayList<>(List.of(key)));
+        Set<Key> keys = Collections.unmodifiableSet(new HashSet<>(Set.of(key)));
+        List<Key> single = Collections.singletonList(key);
+        Map<Key, Key> singleMap = Collections.singletonMap(key, key);
+        SortedMap<String, Key> sorted = Collections.synchronizedSortedMap(new TreeMap<>(Comparator.<String>reverseOrder()));
+        sorted.putAll(Map.of("a", key, "b", key));
+        Object[] source = {fixed, view, keys, single, singleMap, sorted, Collections.emptyList(), key};
+
+        Object[] copy = DeepCopier.copy(source);
+
+        Key copiedKey = (Key) copy[7];
+        assertNotSame(key, copiedKey);
+        for (int i = 0; i < 6; i++) {
+            assertNotSame(source[i], copy[i]);
+            assertSame(source[i].getClass(), copy[i].getClass());
+        }
+        assertEquals(fixed, copy[0]);
+        assertSame(copiedKey, ((List<?>) copy[0]).getFirst());
+        assertSame(copiedKey, ((List<?>) copy[1]).getFirst());
+        assertThrows(UnsupportedOperationException.class, () -> ((List<?>) copy[1]).clear());
+        assertTrue(((Set<?>) copy[2]).contains(new Key("k")));
+        assertSame(copiedKey, ((Set<?>) copy[2]).iterator().next());
+        assertSame(copiedKey, ((List<?>) copy[3]).getFirst());
+        assertSame(copiedKey, ((Map<?, ?>) copy[4]).get(new Key("k")));
+        assertEquals(List.of("b", "a"), List.copyOf(((SortedMap<?, ?>) copy[5]).keySet()));
+        assertSame(copiedKey, ((SortedMap<?, ?>) copy[5]).get("a"));
+        assertSame(source[6], copy[6]);
+    }
+
+    @Test
+    void copy_keepsEnumMapKeyTypeAndAccessOrder() {
+        EnumMap<TimeUnit, Key> units = new EnumMap<>(TimeUnit.class);
+        units.put(TimeUnit.SECONDS, new Key("s"));
+        LinkedHashMap<String, Integer> recent = new LinkedHashMap<>(16, 0.75f, true);
+        recent.putAll(Map.of("a", 1, "b", 2));
+        recent.put("c", 3);
+        recent.get("a");
+
+        EnumMap<TimeUnit, Key> unitsCopy = DeepCopier.copy(units);
+        LinkedHashMap<String, Integer> recentCopy = DeepCopier.copy(recent);
+
+        assertEquals(units, unitsCopy);
+        assertNotSame(units.get(TimeUnit.SECONDS), unitsCopy.get(TimeUnit.SECONDS));
+        @SuppressWarnings("unchecked")
+        Map<Object, Key> untyped = (Map<Object, Key>) (Map<?, ?>) unitsCopy;
+        assertThrows(ClassCastException.class, () -> untyped.put("x", null));
+        assertEquals(List.copyOf(recent.keySet()), List.copyOf(recentCopy.keySet()));
+        recentCopy.get(recentCopy.keySet().iterator().next());
+        assertNotEquals(List.copyOf(recent.keySet()), List.copyOf(recentCopy.keySet()));
+    }
+
+    @Test
+    void copy_copiesSubclassesOfJdkCollections() {
+        Tagged source = new Tagged();
+        source.label = "tagged";
+        source.add(new Key("a"));
+        source.add(new Key("b"));
+        Ratio ratio = new Ratio(3, 4);
+
+        Tagged copy = DeepCopier.copy(source);
+
+        assertEquals("tagged", copy.label);
+        assertEquals(source, copy);
+        assertNotSame(source.getFirst(), copy.getFirst());
+        assertEquals(0.75, DeepCopier.copy(ratio).doubleValue());
+        assertThrows(ReflectionException.class, () -> DeepCopier.copy(new Failure("boom")));
+    }
+
+    private static class Person {
+        protected final long id;
+        protected final String name;
+
+        Person(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static final class Employee extends Person {
+        private final int[] scores;
+        private final Point location;
+        private String[] tags;
+        private LocalDate joined;
+        private Date hired;
+
+        Employee(long id, String name, int[] scores, Point location) {
+            super(id, name);
+            this.scores = scores;
+            this.location = location;
+        }
+    }
+
+    private record Point(int x, int y) {
+    }
+
+    private static final class Node {
+        private final String name;
+        private Node next;
+
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Key {
+        private final String value;
+
+        Key(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && value.equals(key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value);
+        }
+    }
+
+    private static final class Id {
+        private final int value;
+
+        Id(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Id id && value == id.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+    }
+
+    private static final class Tagged extends ArrayList<Key> {
+        private String label;
+
+        Tagged() {
+            add(new Key("default"));
+        }
+    }
+
+    private static final class Ratio extends Number {
+        private final int numerator;
+        private final int denominator;
+
+        Ratio(int numerator, int denominator) {
+            this.numerator = numerator;
+            this.denominator = denominator;
+        }
+
+        @Override
+        public int intValue() {
+            return (int) doubleValue();
+        }
+
+        @Override
+        public long longValue() {
+            return (long) doubleValue();
+        }
+
+        @Override
+        public float floatValue() {
+            return (float) doubleValue();
+        }
+
+        @Override
+        public double doubleValue() {
+            return (double) numerator / denominator;
+        }
+    }
+
+    private static final class Failure extends RuntimeException {
+        Failure(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Holder {
+        private final Map<Key, List<Key>> map;
+        private final TreeMap<String, Integer> sorted;
+        private final Set<Key> keys;
+        private final EnumSet<TimeUnit> units;
+        private final List<Object> names;
+
+        Holder(Map<Key, List<Key>> map, TreeMap<String, Integer> sorted, Set<Key> keys,
+               EnumSet<TimeUnit> units, List<Object> names) {
+            this.map = map;
+            this.sorted = sorted;
+            this.keys = keys;
+            this.units = units;
+            this.names = names;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.reflection.DispatchTable;
+import com.abbos.maang.core.reflection.MethodLookupKind;
+import com.abbos.maang.core.reflection.ReflectionException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class DispatchTableTest {
+
+    private static final MethodType HANDLER = MethodType.methodType(String.class, String.class);
+
+    @Test
+    void invoker_routesByName() throws Throwable {
+        DispatchTable table = DispatchTable.create(HANDLER)
+                .bind("echo", DispatchTableTest.class, "echo", MethodLookupKind.STATIC, String.class, String.class)
+                .bind("upper", MethodHandles.publicLookup().findVirtual(String.class, "toUpperCase", MethodType.methodType(String.class)))
+                .bind("length", MethodHandles.lookup().findVirtual(String.class, "length", MethodType.methodType(int.class))
+                        .asType(MethodType.methodType(Object.class, String.class)));
+        MethodHandle invoker = table.invoker();
+
+        assertEquals("hi", (String) invoker.invokeExact("echo", "hi"));
+        assertEquals("HI", (String) invoker.invokeExact("upper", "hi"));
+        assertThrows(ClassCastException.class, () -> {
+            String ignored = (String) invoker.invokeExact("length", "hi");
+        });
+        ReflectionException unbound = assertThrows(ReflectionException.class, () -> {
+            String ignored = (String) invoker.invokeExact("missing", "hi");
+        });
+        assertEquals("No handler bound to: missing", unbound.getMessage());
+        assertEquals(Set.of("echo", "upper", "length"), table.names());
+    }
+
+    @Test
+    void bind_swapsHandlersUnderLiveInvoker() throws Throwable {
+        DispatchTable table = DispatchTable.create(HANDLER, MethodHandles.dropArguments(
+                MethodHandles.constant(String.class, "fallback"), 0, String.class, String.class));
+        MethodHandle invoker = table.invoker();
+
+        assertEquals("fallback", (String) invoker.invokeExact("echo", "hi"));
+
+        table.bind("echo", DispatchTableTest.class, "echo", MethodLookupKind.STATIC, String.class, String.class);
+        assertEquals("hi", (String) invoker.invokeExact("echo", "hi"));
+
+        table.bind("echo", DispatchTableTest.class, "shout", MethodLookupKind.STATIC, String.class, String.class);
+        assertEquals("HI", (String) invoker.invokeExact("echo", "hi"));
+
+        assertTrue(table.unbind("echo"));
+        assertFalse(table.unbind("echo"));
+        assertEquals("fallback", (String) invoker.invokeExact("echo", "hi"));
+    }
+
+    @Test
+    void invoker_resolvesHashCollisionsAndLargeTables() throws Throwable {
+        DispatchTable table = DispatchTable.create(HANDLER);
+        IntStream.range(0, 200).forEach(i -> table.bind("cmd" + i, MethodHandles.dropArguments(
+                MethodHandles.constant(String.class, "r" + i), 0, String.class)));
+        // "Aa" and "BB" share a hash code
+        table.bind("Aa", MethodHandles.dropArguments(MethodHandles.constant(String.class, "Aa"), 0, String.class));
+        table.bind("BB", MethodHandles.dropArguments(MethodHandles.constant(String.class, "BB"), 0, String.class));
+        MethodHandle invoker = table.invoker();
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals("r" + i, (String) invoker.invokeExact("cmd" + i, ""));
+        }
+        assertEquals("Aa", (String) invoker.invokeExact("Aa", ""));
+        assertEquals("BB", (String) invoker.invokeExact("BB", ""));
+        assertThrows(ReflectionException.class, () -> table.bind("bad", MethodHandles.constant(int.class, 1)));
+    }
+
+    static String echo(String value) {
+        return value;
+    }
+
+    static String shout(String value) {
+        return value.toUpperCase();
+    }
+}
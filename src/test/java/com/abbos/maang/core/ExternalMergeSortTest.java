@@ -0,0 +1,123 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.io_nio.ExternalMergeSort;
+import com.abbos.maang.core.io_nio.RecordSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class ExternalMergeSortTest {
+
+    private static final RecordSerializer<String> UTF8 = new RecordSerializer<>() {
+        @Override
+        public int size(String record) {
+            return record.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        @Override
+        public void write(String record, ByteBuffer target) {
+            target.put(record.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer source) {
+            byte[] bytes = new byte[source.remaining()];
+            source.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final RecordSerializer<Entry> ENTRY = new RecordSerializer<>() {
+        @Override
+        public int size(Entry record) {
+            return 2 * Integer.BYTES;
+        }
+
+        @Override
+        public void write(Entry record, ByteBuffer target) {
+            target.putInt(record.key()).putInt(record.seq());
+        }
+
+        @Override
+        public Entry read(ByteBuffer source) {
+            return new Entry(source.getInt(), source.getInt());
+        }
+    };
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void sort_spillsAndMergesRuns() throws IOException {
+        List<String> input = new Random(7).ints(20_000, 0, 1_000_000).mapToObj(i -> "record-" + i).toList();
+        List<String> output = new ArrayList<>();
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            long count = ExternalMergeSort.create(Comparator.<String>naturalOrder(), UTF8)
+                    .withRunSize(500)
+                    .withFanIn(8)
+                    .withWindowSize(1000)
+                    .withTempDirectory(tempDirectory)
+                    .withPool(pool)
+                    .sort(input.iterator(), output::add);
+
+            assertEquals(input.size(), count);
+        }
+
+        assertEquals(input.stream().sorted().toList(), output);
+        try (Stream<Path> files = Files.list(tempDirectory)) {
+            assertEquals(0, files.count(), "run files must be deleted");
+        }
+    }
+
+    @Test
+    void sort_keepsInputOrderOfEqualKeys() throws IOException {
+        Random random = new Random(11);
+        List<Entry> input = new ArrayList<>();
+        for (int seq = 0; seq < 5_050; seq++) {
+            input.add(new Entry(random.nextInt(10), seq));
+        }
+        List<Entry> output = new ArrayList<>();
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            ExternalMergeSort.create(Comparator.comparingInt(Entry::key), ENTRY)
+                    .withRunSize(100)
+                    .withFanIn(3)
+                    .withTempDirectory(tempDirectory)
+                    .withPool(pool)
+                    .sort(input.iterator(), output::add);
+        }
+
+        assertEquals(input.stream().sorted(Comparator.comparingInt(Entry::key)).toList(), output);
+    }
+
+    @Test
+    void sort_inMemoryWhenSingleRun() throws IOException {
+        List<String> output = new ArrayList<>();
+        ExternalMergeSort.create(Comparator.<String>reverseOrder(), UTF8)
+                .withTempDirectory(tempDirectory)
+                .sort(List.of("b", "c", "a").iterator(), output::add);
+
+        assertEquals(List.of("c", "b", "a"), output);
+    }
+
+    private record Entry(int key, int seq) {
+    }
+}
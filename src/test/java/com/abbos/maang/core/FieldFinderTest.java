@@ -1,6 +1,8 @@
 package com.abbos.maang.core;
 
 import com.abbos.maang.core.reflection.FieldFinder;
+import com.abbos.maang.core.reflection.MethodHandleUtils;
+import com.abbos.maang.core.reflection.MethodLookupKind;
 import com.abbos.maang.core.reflection.ReflectionException;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -80,6 +82,37 @@ public class FieldFinderTest {
         assertEquals(123L, user.getId(), "Field value should be updated to 123L");
     }
 
+    @Test
+    void lookups_areCached() {
+        assertSame(FieldFinder.findVarHandle(User.class, "username", String.class),
+                   FieldFinder.findVarHandle(User.class, "username", String.class));
+        assertEquals(FieldFinder.findField(User.class, "active"), FieldFinder.findField(User.class, "active"));
+        assertSame(MethodHandleUtils.findMethodHandle(User.class, "getDefault", MethodLookupKind.STATIC, User.class),
+                   MethodHandleUtils.findMethodHandle(User.class, "getDefault", MethodLookupKind.STATIC, User.class));
+    }
+
+    @Test
+    void failedLookups_areCachedAndRethrown() {
+        ReflectionException first = assertThrows(ReflectionException.class,
+                                                 () -> FieldFinder.findVarHandle(User.class, "missing", Long.class));
+        ReflectionException second = assertThrows(ReflectionException.class,
+                                                  () -> FieldFinder.findVarHandle(User.class, "missing", Long.class));
+        assertNotSame(first, second);
+        assertEquals(first.getMessage(), second.getMessage());
+        assertNull(FieldFinder.findField(User.class, "missing"));
+        assertThrows(ReflectionException.class,
+                     () -> MethodHandleUtils.findMethodHandle(User.class, "missing", MethodLookupKind.VIRTUAL, void.class));
+    }
+
+    @Test
+    void findField_returnsPrivateCopies() {
+        Field first = FieldFinder.findField(User.class, "mail");
+        Field second = FieldFinder.findField(User.class, "mail");
+
+        assertNotSame(first, second);
+        first.setAccessible(false);
+        assertTrue(second.canAccess(User.getDefault()));
+    }
 
     @ToString
     @Getter
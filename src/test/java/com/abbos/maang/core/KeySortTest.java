@@ -0,0 +1,75 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.KeySort;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class KeySortTest {
+
+    private record Item(int id, int group, double weight) {
+    }
+
+    private static Item[] items(int size) {
+        Random random = new Random(11);
+        Item[] items = new Item[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Item(i, random.nextInt(100) - 50, random.nextGaussian());
+        }
+        return items;
+    }
+
+    @Test
+    void sortByInt_isStableAndEvaluatesKeyOnce() {
+        Item[] items = items(50_000);
+        Item[] expected = items.clone();
+        Arrays.sort(expected, Comparator.comparingInt(Item::group));
+        AtomicInteger calls = new AtomicInteger();
+
+        KeySort.sortByInt(items, item -> {
+            calls.incrementAndGet();
+            return item.group();
+        });
+
+        assertArrayEquals(expected, items);
+        assertEquals(50_000, calls.get());
+    }
+
+    @Test
+    void parallelVariants_matchStableSort() {
+        Item[] items = items(100_000);
+        Item[] byGroup = items.clone();
+        Item[] byWeight = items.clone();
+        Item[] byLong = items.clone();
+
+        KeySort.parallelSortByInt(byGroup, Item::group);
+        KeySort.parallelSortByDouble(byWeight, Item::weight);
+        KeySort.parallelSortByLong(byLong, item -> (long) item.group() * -1_000_000_000_000L);
+
+        Item[] expected = items.clone();
+        Arrays.sort(expected, Comparator.comparingInt(Item::group));
+        assertArrayEquals(expected, byGroup);
+        Arrays.sort(expected = items.clone(), Comparator.comparingDouble(Item::weight));
+        assertArrayEquals(expected, byWeight);
+        Arrays.sort(expected = items.clone(), Comparator.comparingInt(Item::group).reversed());
+        assertArrayEquals(expected, byLong);
+    }
+
+    @Test
+    void sortByInt_list() {
+        List<String> words = new ArrayList<>(List.of("watermelon", "pear", "apple"));
+        KeySort.sortByInt(words, String::length);
+        assertEquals(List.of("pear", "apple", "watermelon"), words);
+    }
+}
@@ -0,0 +1,59 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.MapperEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class MapperEngineTest {
+
+    @Test
+    void when_firstMatchWins() {
+        MapperEngine<Integer, String> grade = MapperEngine.from(Integer.class)
+                .mapTo(score -> "F")
+                .when(score -> score >= 90, score -> "A")
+                .when(score -> score >= 75, score -> "B");
+
+        assertEquals("A", grade.execute(95));
+        assertEquals("B", grade.execute(80));
+        assertEquals("F", grade.execute(10));
+        assertEquals(2, grade.branches());
+    }
+
+    @Test
+    void withContext_usesBoundContext() {
+        Map<String, String> names = Map.of("uz", "Uzbekistan");
+        MapperEngine<String, String> engine = MapperEngine.from(String.class)
+                .mapTo(code -> code)
+                .withContext((String code, Map<String, String> ctx) -> ctx.getOrDefault(code, "unknown"))
+                .context(names)
+                .when(String::isEmpty, code -> "empty");
+
+        assertEquals("Uzbekistan", engine.execute("uz"));
+        assertEquals("unknown", engine.execute("de"));
+        assertEquals("empty", engine.execute(""));
+    }
+
+    @Test
+    void builder_isImmutable() {
+        MapperEngine<Integer, Integer> base = MapperEngine.from(Integer.class).mapTo(i -> 0);
+        base.when(i -> true, i -> 1);
+
+        assertEquals(0, base.execute(5));
+    }
+
+    @Test
+    void mapTo_afterWhen_isRejected() {
+        MapperEngine<Integer, Integer> engine = MapperEngine.from(Integer.class).when(i -> i > 0, i -> -i);
+
+        assertEquals(-5, engine.execute(5));
+        assertEquals(0, engine.execute(0));
+        assertThrows(IllegalStateException.class, () -> engine.mapTo(i -> "x"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.annotation.processing.MapperProcessor;
+import com.abbos.maang.core.stream.MapperFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class MapperProcessorTest {
+
+    @Test
+    void processor_generatesMapperReadingFields(@TempDir Path dir) throws Exception {
+        write(dir, "demo/Person.java", """
+                package demo;
+
+                public class Person {
+                    String name;
+                    int age;
+
+                    public Person(String name, int age) {
+                        this.name = name;
+                        this.age = age;
+                    }
+                }
+                """);
+        write(dir, "demo/PersonDto.java", """
+                package demo;
+
+                public record PersonDto(String name, int age) {
+                }
+                """);
+        write(dir, "demo/Mappings.java", """
+                package demo;
+
+                import com.abbos.maang.annotation.GenerateMapper;
+
+                @GenerateMapper(source = Person.class, target = PersonDto.class)
+                class Mappings {
+                }
+                """);
+
+        Compilation compilation = compile(dir);
+
+        assertTrue(compilation.success(), compilation::describe);
+        String generated = Files.readString(dir.resolve("generated/demo/PersonToPersonDtoMapper.java"));
+        assertTrue(generated.contains("public final class PersonToPersonDtoMapper implements "
+                                      + "com.abbos.maang.core.stream.MapperFunction<demo.Person, demo.PersonDto>"), generated);
+        assertTrue(generated.contains("return new demo.PersonDto(source.name, source.age);"), generated);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.resolve("classes").toUri().toURL()},
+                                                        getClass().getClassLoader())) {
+            Object person = loader.loadClass("demo.Person").getConstructor(String.class, int.class).newInstance("ann", 30);
+            @SuppressWarnings("unchecked")
+            MapperFunction<Object, Object> mapper = (MapperFunction<Object, Object>)
+                    loader.loadClass("demo.PersonToPersonDtoMapper").getField("INSTANCE").get(null);
+
+            assertEquals("PersonDto[name=ann, age=30]", mapper.map(person).toString());
+        }
+    }
+
+    @Test
+    void processor_fallsBackToAccessors(@TempDir Path dir) throws Exception {
+        write(dir, "demo/Account.java", """
+                package demo;
+
+                import com.abbos.maang.annotation.GenerateMapper;
+
+                @GenerateMapper(source = Account.class, target = Account.View.class)
+                public class Account {
+                    private final String owner;
+                    private final boolean active;
+                    private final long balance;
+
+                    public Account(String owner, boolean active, long balance) {
+                        this.owner = owner;
+                        this.active = active;
+                        this.balance = balance;
+                    }
+
+                    public String getOwner() {
+                        return owner;
+                    }
+
+                    public boolean isActive() {
+                        return active;
+                    }
+
+                    public long balance() {
+                        return balance;
+                    }
+
+                    public record View(String owner, boolean active, long balance) {
+                    }
+                }
+                """);
+
+        Compilation compilation = compile(dir);
+
+        assertTrue(compilation.success(), compilation::describe);
+        String generated = Files.readString(dir.resolve("generated/demo/AccountToViewMapper.java"));
+        assertTrue(generated.contains("return new demo.Account.View(source.getOwner(), source.isActive(), source.balance());"),
+                   generated);
+    }
+
+    @Test
+    void processor_reportsMissingMembersAndNonRecordTargets(@TempDir Path dir) throws Exception {
+        write(dir, "demo/Customer.java", """
+                package demo;
+
+                import com.abbos.maang.annotation.GenerateMapper;
+
+                @GenerateMapper(source = Customer.class, target = Customer.Contact.class)
+                @GenerateMapper(source = Customer.class, target = Customer.Plain.class)
+                public class Customer {
+                    String name;
+                    private String email;
+
+                    public record Contact(String name, String email) {
+                    }
+
+                    public static class Plain {
+                    }
+                }
+                """);
+
+        Compilation compilation = compile(dir);
+
+        assertFalse(compilation.success());
+        List<String> errors = compilation.errors();
+        assertEquals(2, errors.size(), compilation::describe);
+        assertTrue(errors.contains("No accessible field or accessor 'email' of type java.lang.String in demo.Customer"),
+                   compilation::describe);
+        assertTrue(errors.contains("Target type must be a record: demo.Customer.Plain"), compilation::describe);
+        assertFalse(Files.exists(dir.resolve("generated/demo/CustomerToContactMapper.java")));
+    }
+
+    private static void write(Path dir, String path, String code) throws IOException {
+        Path source = dir.resolve("src").resolve(path);
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, code);
+    }
+
+    private static Compilation compile(Path dir) throws URISyntaxException, IOException {
+        String mainClasses = Path.of(MapperProcessor.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        Path generated = Files.createDirectories(dir.resolve("generated"));
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        List<Path> sources;
+        try (var walk = Files.walk(dir.resolve("src"))) {
+            sources = walk.filter(path -> path.toString().endsWith(".java")).toList();
+        }
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = javac.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = javac.getTask(
+                    null, files, diagnostics,
+                    List.of("-classpath", mainClasses, "-s", generated.toString(), "-d", classes.toString()),
+                    null, files.getJavaFileObjectsFromPaths(sources));
+            task.setProcessors(List.of(new MapperProcessor()));
+            return new Compilation(task.call(), diagnostics.getDiagnostics());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        List<String> errors() {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .toList();
+        }
+
+        String describe() {
+            return diagnostics.toString();
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.BatchResult;
+import com.abbos.maang.core.stream.CompiledMapper;
+import com.abbos.maang.core.stream.IntToDoubleMapperFunction;
+import com.abbos.maang.core.stream.LongMapperFunction;
+import com.abbos.maang.core.reflection.ReflectionException;
+import com.abbos.maang.core.stream.MapperStream;
+import com.abbos.maang.core.stream.MappingError;
+import com.abbos.maang.core.stream.MappingException;
+import com.abbos.maang.core.stream.PipelineProfiler;
+import com.abbos.maang.core.stream.StageSnapshot;
+import com.abbos.maang.core.stream.ToLongMapperFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class MapperStreamTest {
+
+    @Test
+    void compile_matchesExecute() {
+        MapperStream<String, Integer> stream = MapperStream.from(String.class)
+                .map(String::trim)
+                .map(String::length);
+        CompiledMapper<String, Integer> compiled = stream.compile();
+
+        assertEquals(stream.execute("  abbos "), compiled.map("  abbos "));
+        assertEquals(2, compiled.stages());
+    }
+
+    @Test
+    void compile_isFrozen() {
+        MapperStream<String, String> stream = MapperStream.from(String.class).map(String::toUpperCase);
+        CompiledMapper<String, String> compiled = stream.compile();
+        stream.map(String::length);
+
+        assertEquals("ABC", compiled.map("abc"));
+    }
+
+    @Test
+    void compile_withoutStages_isIdentity() {
+        assertEquals("same", MapperStream.from(String.class).compile().map("same"));
+    }
+
+    @Test
+    void compile_rethrowsConfiguredFailure() {
+        CompiledMapper<String, Integer> compiled = MapperStream.from(String.class)
+                .map(Integer::parseInt)
+                .onFailure(() -> new IllegalStateException("bad input"))
+                .compile();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> compiled.map("x"));
+        assertEquals("bad input", ex.getMessage());
+    }
+
+    @Test
+    void onFailure_preallocatedExceptionIsShared() {
+        MapperStream<String, Integer> stream = MapperStream.from(String.class)
+                .map(Integer::parseInt)
+                .onFailure("bad input");
+
+        MappingException first = assertThrows(MappingException.class, () -> stream.execute("x"));
+        MappingException second = assertThrows(MappingException.class, () -> stream.compile().map("y"));
+        assertSame(first, second);
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void onFailure_sharedExceptionDoesNotAccumulateCauses() {
+        IllegalStateException shared = new IllegalStateException("bad input");
+        MapperStream<String, Integer> stream = MapperStream.from(String.class)
+                .map(Integer::parseInt)
+                .onFailure(() -> shared);
+        CompiledMapper<String, Integer> compiled = stream.compile();
+
+        for (String source : List.of("x", "y", "z")) {
+            assertSame(shared, assertThrows(IllegalStateException.class, () -> stream.execute(source)));
+            assertSame(shared, assertThrows(IllegalStateException.class, () -> compiled.map(source)));
+        }
+        assertEquals(1, shared.getSuppressed().length);
+    }
+
+    @Test
+    void execute_withoutOnFailure_propagatesOriginal() {
+        MapperStream<String, Integer> stream = MapperStream.from(String.class).map(Integer::parseInt);
+
+        assertThrows(NumberFormatException.class, () -> stream.execute("x"));
+    }
+
+    @Test
+    void tryExecuteAll_recordsIndexAndStage() {
+        MapperStream<String, Integer> stream = MapperStream.from(String.class)
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .map((Object i) -> 100 / (Integer) i);
+
+        BatchResult<Integer> result = stream.tryExecuteAll(List.of("5", "x", " 0", "20"));
+
+        assertFalse(result.isSuccess());
+        assertEquals(Arrays.asList(20, null, null, 5), result.results());
+        assertEquals(List.of(1, 2), result.errors().stream().map(MappingError::index).toList());
+        assertEquals(List.of(1, 2), result.errors().stream().map(MappingError::stage).toList());
+        assertInstanceOf(ArithmeticException.class, result.errors().get(1).cause());
+        assertThrows(MappingException.class, result::orElseThrow);
+    }
+
+    @Test
+    void tryExecuteAll_parallel_ordersErrorsByIndex() {
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            sources.add(i);
+        }
+        BatchResult<Integer> result = MapperStream.from(Integer.class)
+                .map(i -> {
+                    if (i % 1000 == 0) {
+                        throw new ArithmeticException();
+                    }
+                    return i;
+                })
+                .parallel()
+                .tryExecuteAll(sources);
+
+        assertEquals(50, result.errors().size());
+        for (int k = 0; k < 50; k++) {
+            assertEquals(k * 1000, result.errors().get(k).index());
+        }
+        assertEquals(49_999, result.results().getLast());
+    }
+
+    @Test
+    void executeAllAsync_preservesOrderAndBoundsConcurrency() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        MapperStream<Integer, Integer> stream = MapperStream.from(Integer.class)
+                .mapAsync(i -> {
+                    peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(1 + (i * 7) % 5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return i * 2;
+                }, 8);
+
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            sources.add(i);
+        }
+        List<Integer> results = stream.executeAllAsync(sources).join();
+
+        assertEquals(sources.stream().map(i -> i * 2).toList(), results);
+        assertTrue(peak.get() <= 8, "peak in-flight " + peak.get());
+    }
+
+    @Test
+    void executeAllAsync_completesExceptionallyOnFailure() {
+        MapperStream<String, Integer> stream = MapperStream.from(String.class)
+                .mapAsync(Integer::parseInt, 4);
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                                              () -> stream.executeAllAsync(List.of("1", "x", "3")).join());
+        assertInstanceOf(NumberFormatException.class, ex.getCause());
+    }
+
+    @Test
+    void executeAll_parallel_preservesOrder() {
+        Integer[] sources = new Integer[100_000];
+        Arrays.setAll(sources, i -> i);
+
+        Integer[] results = MapperStream.from(Integer.class)
+                .map(i -> i * 2)
+                .parallel()
+                .executeAll(sources, new Integer[sources.length]);
+
+        for (int i = 0; i < sources.length; i++) {
+            assertEquals(i * 2, results[i]);
+        }
+    }
+
+    @Test
+    void executeAll_list() {
+        List<Integer> lengths = MapperStream.from(String.class)
+                .map(String::length)
+                .executeAll(List.of("a", "bb", "ccc"));
+
+        assertEquals(List.of(1, 2, 3), lengths);
+    }
+
+    @Test
+    void auto_mapsInheritedFieldsByNameAndType() {
+        Account account = new Account(7L, "abbos", 3);
+
+        AccountDto dto = MapperStream.auto(Account.class, AccountDto.class).execute(account);
+
+        assertEquals(new AccountDto(7L, "abbos", 3), dto);
+    }
+
+    @Test
+    void auto_rejectsUnmatchedComponent() {
+        assertThrows(ReflectionException.class, () -> MapperStream.auto(Account.class, MismatchDto.class));
+    }
+
+    @Test
+    void stream_isLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        Stream<Integer> mapped = MapperStream.from(Integer.class)
+                .map(i -> {
+                    calls.incrementAndGet();
+                    return i + 1;
+                })
+                .stream(Stream.iterate(0, i -> i + 1));
+
+        assertEquals(List.of(1, 2, 3), mapped.limit(3).toList());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void publisher_forwardsDemand() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        try (SubmissionPublisher<Integer> source = new SubmissionPublisher<>()) {
+            MapperStream.from(Integer.class)
+                    .map(i -> "#" + i)
+                    .publisher(source)
+                    .subscribe(new Flow.Subscriber<>() {
+                        private Flow.Subscription subscription;
+
+                        @Override
+                        public void onSubscribe(Flow.Subscription subscription) {
+                            this.subscription = subscription;
+                            subscription.request(1);
+                        }
+
+                        @Override
+                        public void onNext(String item) {
+                            received.add(item);
+                            subscription.request(1);
+                        }
+
+                        @Override
+                        public void onError(Throwable throwable) {
+                            done.countDown();
+                        }
+
+                        @Override
+                        public void onComplete() {
+                            done.countDown();
+                        }
+                    });
+            for (int i = 0; i < 5; i++) {
+                source.submit(i);
+            }
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("#0", "#1", "#2", "#3", "#4"), received);
+    }
+
+    @Test
+    void publisher_nullResult_cancelsUpstreamAndFails() {
+        List<String> received = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flow.Publisher<Integer> source = subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            private int next;
+
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && next < 3 && !cancelled.get(); i++) {
+                    subscriber.onNext(next++);
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+        });
+
+        MapperStream.from(Integer.class)
+                .map(i -> i == 1 ? null : "#" + i)
+                .publisher(source)
+                .subscribe(new Flow.Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(String item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        errors.add(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("completed after a null result");
+                    }
+                });
+
+        assertTrue(cancelled.get());
+        assertEquals(List.of("#0"), received);
+        assertEquals(1, errors.size());
+        assertInstanceOf(NullPointerException.class, errors.getFirst());
+    }
+
+    @Test
+    void mapToInt_staysPrimitive() {
+        ToLongMapperFunction<String> millis = MapperStream.from(String.class)
+                .map(String::trim)
+                .mapToInt(String::length)
+                .andThen(length -> length * 2)
+                .andThenToLong(seconds -> seconds * 1000L);
+
+        assertEquals(6000L, millis.map(" abc "));
+    }
+
+    @Test
+    void fromInt_staysPrimitiveFromStartToEnd() {
+        IntToDoubleMapperFunction ratio = MapperStream.fromInt()
+                .andThen(age -> age + 1)
+                .andThenToLong(age -> age * 365L)
+                .andThenToDouble(days -> days / 7.0);
+        LongMapperFunction<String> label = MapperStream.fromLong().andThenToObj(Long::toHexString);
+
+        assertEquals(365.0 * 3 / 7.0, ratio.map(2));
+        assertEquals("ff", label.map(255L));
+        assertEquals(1.5, MapperStream.fromDouble().andThen(d -> d / 2).map(3.0));
+    }
+
+    @Test
+    void profile_recordsPerStageMetrics() {
+        PipelineProfiler profiler = new PipelineProfiler("parse");
+        MapperStream<String, Integer> stream = MapperStream.from(String.class)
+                .map(String::trim)
+                .profile(profiler)
+                .map(Integer::parseInt);
+
+        stream.execute(" 1 ");
+        stream.execute(" 2 ");
+        assertThrows(NumberFormatException.class, () -> stream.execute("x"));
+
+        List<StageSnapshot> snapshot = profiler.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals("map#0", snapshot.get(0).stage());
+        assertEquals(3, snapshot.get(0).invocations());
+        assertEquals(0, snapshot.get(0).failures());
+        assertEquals(3, snapshot.get(1).invocations());
+        assertEquals(1, snapshot.get(1).failures());
+        assertTrue(snapshot.get(1).percentileNanos(0.5) > 0);
+    }
+
+    private static class Base {
+        private long id;
+    }
+
+    private static final class Account extends Base {
+        private final String name;
+        private final int level;
+
+        Account(long id, String name, int level) {
+            ((Base) this).id = id;
+            this.name = name;
+            this.level = level;
+        }
+    }
+
+    private record AccountDto(long id, String name, int level) {
+    }
+
+    private record MismatchDto(String id) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.reflection.MethodHandleUtils;
+import com.abbos.maang.core.reflection.MethodLookupKind;
+import com.abbos.maang.core.reflection.ReflectionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class MethodHandleUtilsTest {
+
+    @Test
+    void bind_virtualAndStatic() {
+        Function<Account, String> owner = MethodHandleUtils.bindFunction(Account.class, "owner",
+                                                                         MethodLookupKind.VIRTUAL, String.class);
+        Function<String, Account> of = MethodHandleUtils.bindFunction(Account.class, "of", MethodLookupKind.STATIC,
+                                                                      Account.class, String.class);
+
+        assertEquals("alice", owner.apply(of.apply("alice")));
+        assertSame(owner, MethodHandleUtils.bindFunction(Account.class, "owner", MethodLookupKind.VIRTUAL, String.class));
+    }
+
+    @Test
+    void bind_constructors() {
+        Supplier<Account> empty = MethodHandleUtils.bindSupplier(Account.class, null, MethodLookupKind.CONSTRUCTOR,
+                                                                 void.class);
+        Function<String, Account> named = MethodHandleUtils.bindFunction(Account.class, null,
+                                                                         MethodLookupKind.CONSTRUCTOR, void.class,
+                                                                         String.class);
+
+        assertEquals("nobody", empty.get().owner());
+        assertEquals("bob", named.apply("bob").owner());
+    }
+
+    @Test
+    void bind_specialSkipsOverride() {
+        BiConsumer<Account, Long> deposit = MethodHandleUtils.bindBiConsumer(Account.class, "deposit",
+                                                                             MethodLookupKind.SPECIAL, void.class,
+                                                                             long.class);
+        Account account = new DoubleAccount();
+        deposit.accept(account, 10L);
+
+        assertEquals(10, account.balance);
+    }
+
+    @Test
+    void bind_userInterfaceStaysPrimitive() {
+        BalanceReader reader = MethodHandleUtils.bind(BalanceReader.class, Account.class, "balance",
+                                                      MethodLookupKind.VIRTUAL, long.class);
+        Account account = Account.of("carol");
+        account.deposit(42);
+
+        assertEquals(42, reader.read(account));
+    }
+
+    @Test
+    void bind_rejectsMismatchedArity() {
+        assertThrows(ReflectionException.class,
+                     () -> MethodHandleUtils.bindSupplier(Account.class, "owner", MethodLookupKind.VIRTUAL, String.class));
+        assertThrows(ReflectionException.class,
+                     () -> MethodHandleUtils.bind(Runnable.class, Account.class, "missing", MethodLookupKind.STATIC,
+                                                  void.class));
+    }
+
+    @Test
+    void bind_targetsFromAnotherLoader(@TempDir Path dir) throws Exception {
+        Path source = Files.writeString(Files.createDirectories(dir.resolve("src/demo")).resolve("Wallet.java"), """
+                package demo;
+
+                public class Wallet {
+                    private final String owner;
+
+                    public Wallet(String owner) {
+                        this.owner = owner;
+                    }
+
+                    private String owner() {
+                        return owner;
+                    }
+
+                    static String greet(String name) {
+                        return "hello " + name;
+                    }
+                }
+                """);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, javac.run(null, null, null, "-d", classes.toString(), source.toString()));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> wallet = loader.loadClass("demo.Wallet");
+            Function<String, Object> create = MethodHandleUtils.bindFunction(wallet, null, MethodLookupKind.CONSTRUCTOR,
+                                                                             void.class, String.class);
+            Function<Object, String> owner = MethodHandleUtils.bindFunction(wallet, "owner", MethodLookupKind.VIRTUAL,
+                                                                            String.class);
+            Function<String, String> greet = MethodHandleUtils.bindFunction(wallet, "greet", MethodLookupKind.STATIC,
+                                                                            String.class, String.class);
+
+            assertEquals("dave", owner.apply(create.apply("dave")));
+            assertEquals("hello erin", greet.apply("erin"));
+        }
+    }
+
+    @Test
+    void bind_interfaceFromChildLoader(@TempDir Path dir) throws Exception {
+        Path source = Files.writeString(Files.createDirectories(dir.resolve("src/demo")).resolve("Namer.java"), """
+                package demo;
+
+                public interface Namer {
+                    Object name(Object account);
+                }
+                """);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, javac.run(null, null, null, "-d", classes.toString(), source.toString()));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> namer = loader.loadClass("demo.Namer");
+            Object owner = MethodHandleUtils.bind(namer, Account.class, "owner", MethodLookupKind.VIRTUAL, String.class);
+
+            assertEquals("frank", namer.getMethod("name", Object.class).invoke(owner, Account.of("frank")));
+            assertSame(owner, MethodHandleUtils.bind(namer, Account.class, "owner", MethodLookupKind.VIRTUAL, String.class));
+        }
+    }
+
+    @FunctionalInterface
+    public interface BalanceReader {
+        long read(Account account);
+    }
+
+    public static class Account {
+        private final String owner;
+        private long balance;
+
+        private Account() {
+            this("nobody");
+        }
+
+        private Account(String owner) {
+            this.owner = owner;
+        }
+
+        private static Account of(String owner) {
+            return new Account(owner);
+        }
+
+        private String owner() {
+            return owner;
+        }
+
+        private long balance() {
+            return balance;
+        }
+
+        void deposit(long amount) {
+            balance += amount;
+        }
+    }
+
+    private static final class DoubleAccount extends Account {
+        @Override
+        void deposit(long amount) {
+            super.deposit(amount * 2);
+        }
+    }
+}
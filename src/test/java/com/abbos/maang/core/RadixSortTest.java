@@ -0,0 +1,110 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.RadixSort;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class RadixSortTest {
+
+    private static final int SIZE = 300_000;
+
+    @Test
+    void sort_signedInts() {
+        int[] array = new Random(1).ints(SIZE).toArray();
+        int[] parallel = array.clone();
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(array);
+        RadixSort.parallelSort(parallel);
+
+        assertArrayEquals(expected, array);
+        assertArrayEquals(expected, parallel);
+    }
+
+    @Test
+    void sort_signedLongs() {
+        long[] array = new Random(2).longs(SIZE).toArray();
+        long[] parallel = array.clone();
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(array);
+        RadixSort.parallelSort(parallel);
+
+        assertArrayEquals(expected, array);
+        assertArrayEquals(expected, parallel);
+    }
+
+    @Test
+    void sort_doublesIncludingSpecialValues() {
+        double[] array = new Random(3).doubles(SIZE, -1e9, 1e9).toArray();
+        array[0] = Double.NaN;
+        array[1] = -0.0;
+        array[2] = 0.0;
+        array[3] = Double.NEGATIVE_INFINITY;
+        array[4] = Double.POSITIVE_INFINITY;
+        double[] parallel = array.clone();
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(array);
+        RadixSort.parallelSort(parallel);
+
+        assertArrayEquals(expected, array);
+        assertArrayEquals(expected, parallel);
+    }
+
+    @Test
+    void sort_doublesKeepsNaNPayloads() {
+        double payload = Double.longBitsToDouble(0x7ff8_0000_0000_0123L);
+        double negative = Double.longBitsToDouble(0xfff8_0000_0000_0456L);
+        double[] array = new Random(5).doubles(SIZE, -1e3, 1e3).toArray();
+        array[10] = payload;
+        array[SIZE / 2] = negative;
+        double[] parallel = array.clone();
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        RadixSort.sort(array);
+        RadixSort.parallelSort(parallel);
+
+        for (double[] sorted : new double[][]{array, parallel}) {
+            assertArrayEquals(Arrays.copyOf(expected, SIZE - 2), Arrays.copyOf(sorted, SIZE - 2));
+            assertEquals(0x7ff8_0000_0000_0123L, Double.doubleToRawLongBits(sorted[SIZE - 2]));
+            assertEquals(0xfff8_0000_0000_0456L, Double.doubleToRawLongBits(sorted[SIZE - 1]));
+        }
+    }
+
+    @Test
+    void sort_recordsIsStable() {
+        Random random = new Random(4);
+        Employee[] employees = new Employee[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            employees[i] = new Employee(i, random.nextInt(2000) - 1000, random.nextInt(100) * 50.0);
+        }
+        Employee[] byLevel = employees.clone();
+        Employee[] bySalary = employees.clone();
+
+        RadixSort.parallelSortByInt(byLevel, e -> e.level());
+        RadixSort.sortByDouble(bySalary, e -> e.salary());
+
+        Employee[] expected = employees.clone();
+        Arrays.sort(expected, Comparator.comparingInt(Employee::level));
+        assertArrayEquals(expected, byLevel);
+        Arrays.sort(expected = employees.clone(), Comparator.comparingDouble(Employee::salary));
+        assertArrayEquals(expected, bySalary);
+    }
+
+    private record Employee(int id, int level, double salary) {
+    }
+}
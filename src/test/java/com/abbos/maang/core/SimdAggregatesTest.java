@@ -0,0 +1,106 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.SimdAggregates;
+import com.abbos.maang.core.stream.SimdCollectors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class SimdAggregatesTest {
+
+    // odd length, so every vector loop also runs its scalar tail
+    private static final int SIZE = 10_007;
+
+    @Test
+    void sumMinMax_matchScalar() {
+        Random random = new Random(7);
+        double[] doubles = random.doubles(SIZE, -1_000, 1_000).toArray();
+        int[] ints = random.ints(SIZE).toArray();
+        long[] longs = random.longs(SIZE, -1L << 40, 1L << 40).toArray();
+
+        assertEquals(DoubleStream.of(doubles).sum(), SimdAggregates.sum(doubles), 1e-6);
+        assertEquals(IntStream.of(ints).asLongStream().sum(), SimdAggregates.sum(ints));
+        assertEquals(LongStream.of(longs).sum(), SimdAggregates.sum(longs));
+
+        assertEquals(DoubleStream.of(doubles).min().orElseThrow(), SimdAggregates.min(doubles));
+        assertEquals(DoubleStream.of(doubles).max().orElseThrow(), SimdAggregates.max(doubles));
+        assertEquals(IntStream.of(ints).min().orElseThrow(), SimdAggregates.min(ints));
+        assertEquals(IntStream.of(ints).max().orElseThrow(), SimdAggregates.max(ints));
+        assertEquals(LongStream.of(longs).min().orElseThrow(), SimdAggregates.min(longs));
+        assertEquals(LongStream.of(longs).max().orElseThrow(), SimdAggregates.max(longs));
+    }
+
+    @Test
+    void sum_intsDoNotOverflow() {
+        int[] ints = new int[SIZE];
+        Arrays.fill(ints, Integer.MAX_VALUE);
+
+        assertEquals((long) Integer.MAX_VALUE * SIZE, SimdAggregates.sum(ints));
+    }
+
+    @Test
+    void minMax_rejectEmpty() {
+        assertThrows(NoSuchElementException.class, () -> SimdAggregates.min(new double[0]));
+        assertThrows(NoSuchElementException.class, () -> SimdAggregates.max(new long[0]));
+    }
+
+    @Test
+    void countInRange_andHistogram() {
+        Random random = new Random(8);
+        double[] doubles = random.doubles(SIZE, -10, 110).toArray();
+        int[] ints = random.ints(SIZE, -10, 110).toArray();
+
+        assertEquals(DoubleStream.of(doubles).filter(d -> d >= 25 && d < 75).count(),
+                     SimdAggregates.countInRange(doubles, 25, 75));
+        assertEquals(IntStream.of(ints).filter(i -> i >= 25 && i < 75).count(),
+                     SimdAggregates.countInRange(ints, 25, 75));
+
+        long[] histogram = SimdAggregates.histogram(doubles, 0, 100, 10);
+        for (int bin = 0; bin < 10; bin++) {
+            double low = bin * 10;
+            assertEquals(DoubleStream.of(doubles).filter(d -> d >= low && d < low + 10).count(), histogram[bin]);
+        }
+        long[] intHistogram = SimdAggregates.histogram(ints, 0, 100, 10);
+        assertEquals(IntStream.of(ints).filter(i -> i >= 90 && i < 100).count(), intHistogram[9]);
+        assertThrows(IllegalArgumentException.class, () -> SimdAggregates.histogram(doubles, 1, 1, 10));
+    }
+
+    @Test
+    void collectors_matchJdkCollectors() {
+        List<Integer> values = new Random(9).ints(SIZE, 0, 1_000).boxed().toList();
+        long expected = values.stream().mapToLong(Integer::longValue).sum();
+
+        assertEquals(expected, values.stream().collect(SimdCollectors.summingDouble(Integer::doubleValue)), 1e-6);
+        assertEquals(expected, values.parallelStream().collect(SimdCollectors.summingDouble(Integer::doubleValue)), 1e-6);
+        assertEquals(0.0, List.<Integer>of().stream().collect(SimdCollectors.summingDouble(Integer::doubleValue)));
+        assertEquals(values.stream().filter(v -> v < 500).count(),
+                     values.parallelStream().collect(SimdCollectors.countingInRange(Integer::doubleValue, 0, 500)));
+        assertArrayEquals(SimdAggregates.histogram(values.stream().mapToDouble(Integer::doubleValue).toArray(), 0, 1_000, 7),
+                          values.parallelStream().collect(SimdCollectors.histogram(Integer::doubleValue, 0, 1_000, 7)));
+    }
+
+    @Test
+    void summingDouble_matchesJdkOnInfinities() {
+        List<Double> positive = List.of(1.0, Double.POSITIVE_INFINITY, 2.0);
+        List<Double> both = List.of(Double.POSITIVE_INFINITY, 1.0, Double.NEGATIVE_INFINITY);
+
+        assertEquals(positive.stream().collect(Collectors.summingDouble(Double::doubleValue)),
+                     positive.stream().collect(SimdCollectors.summingDouble(Double::doubleValue)));
+        assertEquals(both.stream().collect(Collectors.summingDouble(Double::doubleValue)),
+                     both.stream().collect(SimdCollectors.summingDouble(Double::doubleValue)));
+        assertTrue(Double.isNaN(both.stream().collect(SimdCollectors.summingDouble(Double::doubleValue))));
+    }
+}
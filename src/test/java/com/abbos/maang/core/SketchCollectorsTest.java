@@ -0,0 +1,99 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.HyperLogLog;
+import com.abbos.maang.core.stream.KllSketch;
+import com.abbos.maang.core.stream.SketchCollectors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class SketchCollectorsTest {
+
+    @Test
+    void hyperLogLog_estimatesWithinError() {
+        long distinct = 200_000;
+        long estimate = LongStream.range(0, distinct * 3)
+                .parallel()
+                .boxed()
+                .collect(SketchCollectors.approxDistinct(i -> i % distinct, 0.01));
+
+        assertEquals(distinct, estimate, distinct * 0.03);
+    }
+
+    @Test
+    void hyperLogLog_smallCardinalityIsNearlyExact() {
+        HyperLogLog sketch = HyperLogLog.create(14);
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add("employee-" + (i % 100));
+        }
+        assertEquals(100, sketch.estimate(), 1);
+    }
+
+    @Test
+    void hyperLogLog_serializesAndMerges() {
+        HyperLogLog left = HyperLogLog.create(12);
+        HyperLogLog right = HyperLogLog.create(12);
+        LongStream.range(0, 50_000).forEach(left::add);
+        LongStream.range(25_000, 75_000).forEach(right::add);
+
+        byte[] bytes = right.toBytes();
+        assertEquals(1 + 4096 * 6 / 8, bytes.length);
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+        assertEquals(right, restored);
+
+        assertEquals(75_000, left.merge(restored).estimate(), 75_000 * 0.05);
+        assertThrows(IllegalArgumentException.class, () -> left.merge(HyperLogLog.create(10)));
+    }
+
+    @Test
+    void kll_quantilesWithinRankError() {
+        double[] values = new Random(3).doubles(500_000).map(d -> d * d * 100_000).toArray();
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double[] fractions = {0.1, 0.5, 0.9, 0.99};
+
+        double[] estimates = Arrays.stream(values).boxed().parallel()
+                .collect(SketchCollectors.approxQuantiles(Double::doubleValue, 200, fractions));
+
+        for (int i = 0; i < fractions.length; i++) {
+            double rank = (double) Math.abs(Arrays.binarySearch(sorted, estimates[i])) / sorted.length;
+            assertEquals(fractions[i], rank, 0.02, "rank of p" + fractions[i]);
+        }
+    }
+
+    @Test
+    void kll_boundedMemoryExactExtremesAndRoundTrip() {
+        KllSketch sketch = KllSketch.create(100);
+        IntStream.rangeClosed(1, 1_000_000).forEach(sketch::add);
+
+        assertTrue(sketch.retained() < 1_000, "retained " + sketch.retained());
+        assertEquals(1, sketch.quantile(0));
+        assertEquals(1_000_000, sketch.quantile(1));
+        assertEquals(0.5, sketch.rank(500_000), 0.03);
+
+        KllSketch restored = KllSketch.fromBytes(sketch.toBytes());
+        assertEquals(sketch.count(), restored.count());
+        assertArrayEquals(sketch.quantiles(0.25, 0.75), restored.quantiles(0.25, 0.75));
+
+        KllSketch other = KllSketch.create(100);
+        IntStream.rangeClosed(1_000_001, 2_000_000).forEach(other::add);
+        assertEquals(1_000_000, restored.merge(other).quantile(0.5), 60_000);
+        assertEquals(2_000_000, restored.count());
+    }
+
+    @Test
+    void kll_emptyRejectsQuantile() {
+        assertThrows(NoSuchElementException.class, () -> KllSketch.create(50).quantile(0.5));
+        assertThrows(IllegalArgumentException.class, () -> KllSketch.create(4));
+    }
+}
@@ -0,0 +1,103 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.annotation.Tag;
+import com.abbos.maang.annotation.TagIndex;
+import com.abbos.maang.annotation.TaggedElement;
+import com.abbos.maang.annotation.processing.TagIndexProcessor;
+import com.abbos.maang.core.reflection.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.ElementType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class TagIndexTest {
+
+    @Test
+    void defaultIndex_coversMainSources() throws ReflectiveOperationException {
+        List<TaggedElement> reflection = TagIndex.getDefault().elements("Reflection");
+
+        assertEquals(1, reflection.size());
+        assertEquals(ElementType.TYPE, reflection.getFirst().kind());
+        assertSame(ReflectionUtils.class, reflection.getFirst().resolve(getClass().getClassLoader()));
+        assertTrue(TagIndex.getDefault().elements("no such tag").isEmpty());
+    }
+
+    @Test
+    void processor_indexesEveryElementKind(@TempDir Path dir) throws Exception {
+        Path source = dir.resolve("src/demo/Handler.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, """
+                package demo;
+
+                import com.abbos.maang.annotation.Tag;
+
+                @Tag({"handler", "tab\\there"})
+                public class Handler {
+                    @Tag("config") String path;
+
+                    public Handler(@Tag("config") String path, int[] ports) { this.path = path; }
+
+                    @Tag("handler") void handle(java.util.List<String> lines, @Tag("body") Handler.Body[] bodies) {}
+
+                    static class Body {}
+                }
+                """);
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+        compile(source, classes, true);
+        compile(source, classes, false);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, ClassLoader.getPlatformClassLoader())) {
+            TagIndex index = TagIndex.load(loader);
+
+            assertEquals(List.of("demo.Handler"), index.elements("tab\there").stream().map(TaggedElement::className).toList());
+            assertEquals(2, index.elements("handler").size());
+
+            Method handle = (Method) index.elements("handler", ElementType.METHOD).getFirst().resolve(loader);
+            assertEquals("handle", handle.getName());
+
+            TaggedElement body = index.elements("body").getFirst();
+            assertEquals(List.of("java.util.List", "demo.Handler$Body[]"), body.parameterTypes());
+            assertEquals(1, body.parameter());
+            assertEquals(handle, ((Parameter) body.resolve(loader)).getDeclaringExecutable());
+
+            Parameter path = (Parameter) index.elements("config", ElementType.PARAMETER).getFirst().resolve(loader);
+            assertInstanceOf(Constructor.class, path.getDeclaringExecutable());
+            assertEquals(2, index.elements("config").size());
+        }
+    }
+
+    private static void compile(Path source, Path classes, boolean processOnly) throws URISyntaxException {
+        String tagClasses = Path.of(Tag.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager files = javac.getStandardFileManager(null, null, null)) {
+            JavaCompiler.CompilationTask task = javac.getTask(
+                    null, files, null,
+                    List.of(processOnly ? "-proc:only" : "-proc:none", "-classpath", tagClasses, "-d", classes.toString()),
+                    null, files.getJavaFileObjects(source));
+            task.setProcessors(List.of(new TagIndexProcessor()));
+            assertTrue(task.call());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.TopKCollectors;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class TopKCollectorsTest {
+
+    private static final List<Integer> DATA = new Random(42).ints(100_000, -1_000_000, 1_000_000).boxed().toList();
+
+    private static List<Integer> expectedTop(int k) {
+        return DATA.stream().sorted(Comparator.reverseOrder()).limit(k).toList();
+    }
+
+    @Test
+    void topK_parallelMatchesFullSort() {
+        assertEquals(expectedTop(100), DATA.parallelStream().collect(TopKCollectors.topK(100, Comparator.naturalOrder())));
+    }
+
+    @Test
+    void topKByPrimitiveKeys() {
+        assertEquals(expectedTop(50), DATA.parallelStream().collect(TopKCollectors.topKByInt(50, Integer::intValue)));
+        assertEquals(expectedTop(50), DATA.parallelStream().collect(TopKCollectors.topKByLong(50, Integer::longValue)));
+        assertEquals(expectedTop(50), DATA.parallelStream().collect(TopKCollectors.topKByDouble(50, i -> i / 7.0)));
+    }
+
+    @Test
+    void topK_fewerElementsThanK() {
+        assertEquals(List.of(3, 2, 1), IntStream.rangeClosed(1, 3).boxed()
+                .collect(TopKCollectors.topK(10, Comparator.naturalOrder())));
+        assertTrue(DATA.stream().collect(TopKCollectors.topK(0, Comparator.naturalOrder())).isEmpty());
+    }
+
+    @Test
+    void partialSort_sortsLeadingElements() {
+        Integer[] array = DATA.toArray(Integer[]::new);
+        TopKCollectors.partialSort(array, 20, Comparator.naturalOrder());
+
+        List<Integer> expected = DATA.stream().sorted().limit(20).toList();
+        assertEquals(expected, Arrays.asList(array).subList(0, 20));
+    }
+}
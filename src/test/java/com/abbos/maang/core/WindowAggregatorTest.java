@@ -0,0 +1,175 @@
+package com.abbos.maang.core;
+
+import com.abbos.maang.core.stream.Window;
+import com.abbos.maang.core.stream.WindowAggregator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+public class WindowAggregatorTest {
+
+    private static final ToLongFunction<Long> IDENTITY = Long::longValue;
+
+    @Test
+    void tumblingCount_emitsEagerlyAndFlushesPartial() {
+        List<Window<Integer>> windows = new ArrayList<>();
+        try (WindowAggregator<Integer, ?, Integer> sums =
+                     WindowAggregator.tumbling(3, Collectors.summingInt(Integer::intValue), windows::add)) {
+            for (int i = 1; i <= 7; i++) {
+                sums.accept(i);
+            }
+            assertEquals(List.of(6, 15), windows.stream().map(Window::result).toList());
+        }
+        assertEquals(new Window<>(6, 9, 7), windows.getLast());
+    }
+
+    @Test
+    void slidingCount_combinesPanes() {
+        List<Integer> sums = new ArrayList<>();
+        WindowAggregator<Integer, ?, Integer> aggregator =
+                WindowAggregator.sliding(4, 2, Collectors.summingInt(Integer::intValue), w -> sums.add(w.result()));
+        for (int i = 1; i <= 8; i++) {
+            aggregator.accept(i);
+        }
+        aggregator.flush();
+
+        assertEquals(List.of(3, 10, 18, 26, 15), sums);
+    }
+
+    @Test
+    void slidingCount_keepsResultsOfCombinerReusingCollectors() {
+        List<Set<Integer>> sets = new ArrayList<>();
+        List<List<Integer>> lists = new ArrayList<>();
+        try (WindowAggregator<Integer, ?, Set<Integer>> toSet =
+                     WindowAggregator.sliding(4, 2, Collectors.toSet(), w -> sets.add(w.result()));
+             WindowAggregator<Integer, ?, List<Integer>> toList =
+                     WindowAggregator.sliding(4, 2, Collectors.toList(), w -> lists.add(w.result()))) {
+            for (int i = 1; i <= 10; i++) {
+                toSet.accept(i);
+                toList.accept(i);
+            }
+        }
+
+        assertEquals(List.of(List.of(1, 2), List.of(1, 2, 3, 4), List.of(3, 4, 5, 6), List.of(5, 6, 7, 8),
+                             List.of(7, 8, 9, 10), List.of(9, 10)), lists);
+        assertEquals(lists.stream().map(Set::copyOf).toList(), sets);
+    }
+
+    @Test
+    void slidingCount_mergesPreAggregatedPanes() {
+        List<Integer> sums = new ArrayList<>();
+        List<List<Integer>> lists = new ArrayList<>();
+        try (WindowAggregator<Integer, ?, Integer> summing = WindowAggregator.sliding(
+                4, 2, Collectors.summingInt(Integer::intValue), Integer::sum, w -> sums.add(w.result()));
+             WindowAggregator<Integer, ?, List<Integer>> toList = WindowAggregator.sliding(
+                     4, 2, Collectors.toList(), WindowAggregatorTest::concat, w -> lists.add(w.result()))) {
+            for (int i = 1; i <= 10; i++) {
+                summing.accept(i);
+                toList.accept(i);
+            }
+        }
+
+        assertEquals(List.of(3, 10, 18, 26, 34, 19), sums);
+        assertEquals(List.of(List.of(1, 2), List.of(1, 2, 3, 4), List.of(3, 4, 5, 6), List.of(5, 6, 7, 8),
+                             List.of(7, 8, 9, 10), List.of(9, 10)), lists);
+    }
+
+    @Test
+    void slidingEventTime_panesMatchPerWindowAccumulation() {
+        List<Window<List<Long>>> perWindow = new ArrayList<>();
+        List<Window<List<Long>>> panes = new ArrayList<>();
+        WindowAggregator<Long, ?, List<Long>> expected = WindowAggregator.sliding(
+                Duration.ofSeconds(3), Duration.ofSeconds(2), IDENTITY, Collectors.toList(), perWindow::add);
+        WindowAggregator<Long, ?, List<Long>> merged = WindowAggregator.sliding(
+                Duration.ofSeconds(3), Duration.ofSeconds(2), IDENTITY, Collectors.toList(),
+                WindowAggregatorTest::concat, panes::add);
+
+        for (long t : new long[]{0, 1_500, 1_200, 2_500, 4_100, 3_900, 9_000, 500, 10_000, 12_700}) {
+            expected.accept(t);
+            merged.accept(t);
+        }
+        expected.flush();
+        merged.flush();
+
+        // panes concatenate in pane order, so out-of-order elements may be reordered within a window
+        assertEquals(sorted(perWindow), sorted(panes));
+        assertEquals(expected.late(), merged.late());
+    }
+
+    private static List<Window<List<Long>>> sorted(List<Window<List<Long>>> windows) {
+        return windows.stream()
+                .map(w -> new Window<>(w.start(), w.end(), w.result().stream().sorted().toList()))
+                .toList();
+    }
+
+    private static <E> List<E> concat(List<E> left, List<E> right) {
+        List<E> result = new ArrayList<>(left);
+        result.addAll(right);
+        return result;
+    }
+
+    @Test
+    void slidingEventTime_skipsGapsAndDropsLateEvents() {
+        List<Window<Long>> windows = new ArrayList<>();
+        WindowAggregator<Long, ?, Long> counts = WindowAggregator.sliding(
+                Duration.ofSeconds(3), Duration.ofSeconds(1), IDENTITY, Collectors.counting(), windows::add);
+
+        for (long t : new long[]{0, 1_500, 2_500, 10_000}) {
+            counts.accept(t);
+        }
+        counts.advanceTo(13_000);
+        counts.accept(5_000L);
+
+        assertEquals(List.of(new Window<>(-2_000, 1_000, 1L), new Window<>(-1_000, 2_000, 2L),
+                             new Window<>(0, 3_000, 3L), new Window<>(1_000, 4_000, 2L),
+                             new Window<>(2_000, 5_000, 1L), new Window<>(8_000, 11_000, 1L),
+                             new Window<>(9_000, 12_000, 1L), new Window<>(10_000, 13_000, 1L)),
+                     windows);
+        assertEquals(1, counts.late());
+    }
+
+    @Test
+    void session_closesAfterGap() {
+        List<Window<Long>> windows = new ArrayList<>();
+        WindowAggregator<Long, ?, Long> sessions = WindowAggregator.session(
+                Duration.ofSeconds(1), IDENTITY, Collectors.counting(), windows::add);
+
+        for (long t : new long[]{0, 500, 900, 3_000, 3_100}) {
+            sessions.accept(t);
+        }
+        assertEquals(List.of(new Window<>(0, 1_900, 3L)), windows);
+        sessions.advanceTo(4_100);
+
+        assertEquals(new Window<>(3_000, 4_100, 2L), windows.getLast());
+    }
+
+    @Test
+    void publisherSink_deliversWindows() {
+        List<Window<Integer>> received = new ArrayList<>();
+        CompletableFuture<Void> done;
+        try (SubmissionPublisher<Window<Integer>> publisher = new SubmissionPublisher<>()) {
+            done = publisher.consume(received::add);
+            WindowAggregator<Integer, ?, Integer> aggregator =
+                    WindowAggregator.tumbling(2, Collectors.summingInt(Integer::intValue), publisher::submit);
+            for (int i = 0; i < 6; i++) {
+                aggregator.accept(i);
+            }
+        }
+        done.join();
+
+        assertEquals(List.of(1, 5, 9), received.stream().map(Window::result).toList());
+    }
+}
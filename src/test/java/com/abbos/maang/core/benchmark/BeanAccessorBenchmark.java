@@ -0,0 +1,107 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.reflection.BeanAccessor;
+import com.abbos.maang.core.reflection.FieldAccessor;
+import com.abbos.maang.core.reflection.ReflectionUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading every field of a bean through {@link BeanAccessor} with {@link VarHandle}s called through an
+ * {@code Object} signature, {@link Field} reflection and direct field access.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanAccessorBenchmark {
+
+    private static final String[] NAMES = {"a", "b", "c", "d"};
+
+    private final Bean bean = new Bean();
+    private final BeanAccessor accessor = BeanAccessor.of(Bean.class);
+    private final FieldAccessor first = accessor.accessor(0);
+    private final VarHandle[] handles = new VarHandle[NAMES.length];
+    private final Field[] fields = new Field[NAMES.length];
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < NAMES.length; i++) {
+            handles[i] = ReflectionUtils.findVarField(Bean.class, NAMES[i], int.class);
+            fields[i] = ReflectionUtils.findField(Bean.class, NAMES[i]);
+        }
+    }
+
+    @Benchmark
+    public long beanAccessorGetInt() {
+        long sum = 0;
+        for (int i = 0; i < NAMES.length; i++) {
+            sum += accessor.getInt(bean, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long beanAccessorBoxed() {
+        long sum = 0;
+        for (int i = 0; i < NAMES.length; i++) {
+            sum += (Integer) accessor.get(bean, i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int beanAccessorConstantIndex() {
+        return accessor.getInt(bean, 2);
+    }
+
+    @Benchmark
+    public int fieldAccessorGetInt() {
+        return first.getInt(bean);
+    }
+
+    @Benchmark
+    public long varHandleObjectSignature() {
+        long sum = 0;
+        for (VarHandle handle : handles) {
+            sum += (Integer) handle.get((Object) bean);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long reflectionGetInt() throws IllegalAccessException {
+        long sum = 0;
+        for (Field field : fields) {
+            sum += field.getInt(bean);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long direct() {
+        return (long) bean.a + bean.b + bean.c + bean.d;
+    }
+
+    public static class Bean {
+        private int a = 1;
+        private int b = 2;
+        private int c = 3;
+        private int d = 4;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BeanAccessorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,69 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.stream.ChunkedStreamCollector;
+import com.abbos.maang.core.stream.ConcurrentStreamCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Collects parallel streams of boxed integers with {@link ChunkedStreamCollector} and its alternatives.
+ * <p>
+ * The 100M case needs a large heap, e.g. {@code -Xmx8g}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class ChunkedStreamCollectorBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int size;
+
+    private Stream<Integer> source() {
+        return IntStream.range(0, size).parallel().boxed();
+    }
+
+    @Benchmark
+    public List<Integer> chunked() {
+        return source().collect(new ChunkedStreamCollector<>(size));
+    }
+
+    @Benchmark
+    public List<Integer> chunkedOrdered() {
+        return source().collect(ChunkedStreamCollector.ordered(size));
+    }
+
+    @Benchmark
+    public List<Integer> concurrentQueue() {
+        return source().collect(new ConcurrentStreamCollector<>());
+    }
+
+    @Benchmark
+    public List<Integer> toList() {
+        return source().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ConcurrentMap<Integer, Integer> toConcurrentMap() {
+        return source().collect(Collectors.toConcurrentMap(Function.identity(), Function.identity()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ChunkedStreamCollectorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.reflection.DeepCopier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares copying an order graph with {@link DeepCopier} against a {@link Serializable} round trip through
+ * {@link ObjectOutputStream} and {@link ObjectInputStream}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeepCopierBenchmark {
+
+    @Param({"10", "100"})
+    private int lines;
+
+    private Order order;
+
+    @Setup
+    public void setup() {
+        Customer customer = new Customer("Alice", new HashMap<>(Map.of("tier", "gold")));
+        order = new Order(42, customer, new ArrayList<>());
+        for (int i = 0; i < lines; i++) {
+            order.lines.add(new Line(order, "SKU-" + i, i + 1, new double[]{i * 1.5, 0.2}));
+        }
+    }
+
+    @Benchmark
+    public Order deepCopier() {
+        return DeepCopier.copy(order);
+    }
+
+    @Benchmark
+    public Order serialization() throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(order);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Order) in.readObject();
+        }
+    }
+
+    public static class Order implements Serializable {
+        private final long id;
+        private final Customer customer;
+        private final List<Line> lines;
+
+        Order(long id, Customer customer, List<Line> lines) {
+            this.id = id;
+            this.customer = customer;
+            this.lines = lines;
+        }
+    }
+
+    public static class Customer implements Serializable {
+        private final String name;
+        private final Map<String, String> attributes;
+
+        Customer(String name, Map<String, String> attributes) {
+            this.name = name;
+            this.attributes = attributes;
+        }
+    }
+
+    public static class Line implements Serializable {
+        private final Order order;
+        private final String sku;
+        private int quantity;
+        private double[] prices;
+
+        Line(Order order, String sku, int quantity, double[] prices) {
+            this.order = order;
+            this.sku = sku;
+            this.quantity = quantity;
+            this.prices = prices;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DeepCopierBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.reflection.DispatchTable;
+import com.abbos.maang.core.reflection.MethodHandleUtils;
+import com.abbos.maang.core.reflection.MethodLookupKind;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares routing command names through {@link DispatchTable} with a {@code HashMap} of {@link MethodHandle}s,
+ * called through {@code invokeWithArguments} and {@code invokeExact}, and with a plain {@code switch}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchTableBenchmark {
+
+    private static final MethodType HANDLER = MethodType.methodType(int.class, int.class);
+    private static final String[] COMMANDS = {"add", "sub", "mul", "neg", "inc", "dec", "sqr", "abs"};
+    private static final DispatchTable TABLE = DispatchTable.create(HANDLER);
+    private static final MethodHandle DISPATCH = TABLE.invoker();
+
+    static {
+        for (String command : COMMANDS) {
+            TABLE.bind(command, DispatchTableBenchmark.class, command, MethodLookupKind.STATIC, int.class, int.class);
+        }
+    }
+
+    private final Map<String, MethodHandle> handles = new HashMap<>();
+    private int next;
+
+    @Setup
+    public void setup() {
+        for (String command : COMMANDS) {
+            handles.put(command, MethodHandleUtils.findMethodHandle(
+                    DispatchTableBenchmark.class, command, MethodLookupKind.STATIC, int.class, int.class));
+        }
+    }
+
+    private String command() {
+        return COMMANDS[next++ & (COMMANDS.length - 1)];
+    }
+
+    @Benchmark
+    public int dispatchTable() throws Throwable {
+        return (int) DISPATCH.invokeExact(command(), 7);
+    }
+
+    @Benchmark
+    public int mapInvokeWithArguments() throws Throwable {
+        return (int) handles.get(command()).invokeWithArguments(7);
+    }
+
+    @Benchmark
+    public int mapInvokeExact() throws Throwable {
+        return (int) handles.get(command()).invokeExact(7);
+    }
+
+    @Benchmark
+    public int directSwitch() {
+        return switch (command()) {
+            case "add" -> add(7);
+            case "sub" -> sub(7);
+            case "mul" -> mul(7);
+            case "neg" -> neg(7);
+            case "inc" -> inc(7);
+            case "dec" -> dec(7);
+            case "sqr" -> sqr(7);
+            default -> abs(7);
+        };
+    }
+
+    static int add(int x) {
+        return x + 1;
+    }
+
+    static int sub(int x) {
+        return x - 1;
+    }
+
+    static int mul(int x) {
+        return x * 3;
+    }
+
+    static int neg(int x) {
+        return -x;
+    }
+
+    static int inc(int x) {
+        return x + 2;
+    }
+
+    static int dec(int x) {
+        return x - 2;
+    }
+
+    static int sqr(int x) {
+        return x * x;
+    }
+
+    static int abs(int x) {
+        return Math.abs(x);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DispatchTableBenchmark.class.getSimpleName()).build()).run();
+    }
+}
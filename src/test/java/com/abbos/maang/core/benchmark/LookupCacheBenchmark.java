@@ -0,0 +1,122 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.reflection.FieldFinder;
+import com.abbos.maang.core.reflection.MethodHandleUtils;
+import com.abbos.maang.core.reflection.MethodLookupKind;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares warm {@link FieldFinder} and {@link MethodHandleUtils} lookups with the uncached JDK calls they replace.
+ * <p>
+ * The {@code cold*} benchmarks measure the first lookup in a class: every invocation defines a fresh hidden class,
+ * so nothing is cached yet. The {@code uncached*} ones repeat what every call did before the cache.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupCacheBenchmark {
+
+    /**
+     * Defines a fresh hidden copy of {@link Sample} before every call, kept apart so the warm benchmarks don't pay for it.
+     */
+    @State(Scope.Thread)
+    public static class Cold {
+        private byte[] sampleBytes;
+        private Class<?> type;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            String name = Sample.class.getName();
+            try (var in = Sample.class.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+                sampleBytes = in.readAllBytes();
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void define() throws IllegalAccessException {
+            type = MethodHandles.lookup().defineHiddenClass(sampleBytes, true).lookupClass();
+        }
+    }
+
+    @Benchmark
+    public VarHandle warmVarHandle() {
+        return FieldFinder.findVarHandle(Sample.class, "salary", double.class);
+    }
+
+    @Benchmark
+    public VarHandle uncachedVarHandle() throws ReflectiveOperationException {
+        return MethodHandles.privateLookupIn(Sample.class, MethodHandles.lookup())
+                .findVarHandle(Sample.class, "salary", double.class);
+    }
+
+    @Benchmark
+    public VarHandle coldVarHandle(Cold cold) {
+        return FieldFinder.findVarHandle(cold.type, "salary", double.class);
+    }
+
+    @Benchmark
+    public Field warmInheritedField() {
+        return FieldFinder.findField(Sample.class, "id");
+    }
+
+    @Benchmark
+    public Field uncachedInheritedField() {
+        for (Class<?> current = Sample.class; current != Object.class; current = current.getSuperclass()) {
+            try {
+                Field field = current.getDeclaredField("id");
+                field.trySetAccessible();
+                return field;
+            } catch (NoSuchFieldException ignored) {
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public MethodHandle warmMethodHandle() {
+        return MethodHandleUtils.findMethodHandle(Sample.class, "raise", MethodLookupKind.VIRTUAL, void.class, double.class);
+    }
+
+    @Benchmark
+    public MethodHandle uncachedMethodHandle() throws ReflectiveOperationException {
+        return MethodHandles.privateLookupIn(Sample.class, MethodHandles.lookup())
+                .findVirtual(Sample.class, "raise", MethodType.methodType(void.class, double.class));
+    }
+
+    @Benchmark
+    public MethodHandle coldMethodHandle(Cold cold) {
+        return MethodHandleUtils.findMethodHandle(cold.type, "raise", MethodLookupKind.VIRTUAL, void.class, double.class);
+    }
+
+    public static class Base {
+        private long id;
+    }
+
+    public static class Sample extends Base {
+        private double salary;
+
+        public void raise(double percent) {
+            salary *= 1 + percent / 100;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LookupCacheBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.stream.MapperEngine;
+import com.abbos.maang.core.stream.MapperFunction;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Compares the compiled {@code guardWithTest} chain of {@link MapperEngine} against a chain of nested conditional
+ * lambdas.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperEngineBenchmark {
+
+    @Param({"2", "10", "50"})
+    private int branches;
+
+    private MapperEngine<Integer, Integer> engine;
+    private MapperFunction<Integer, Integer> chain;
+    private Integer[] sources;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        MapperEngine<Integer, Integer> engine = MapperEngine.from(Integer.class).mapTo(value -> -1);
+        MapperFunction<Integer, Integer> chain = value -> -1;
+        for (int i = branches - 1; i >= 0; i--) {
+            int key = i;
+            Predicate<Integer> condition = value -> value % branches == key;
+            MapperFunction<Integer, Integer> next = chain;
+            chain = value -> condition.test(value) ? key : next.map(value);
+        }
+        for (int i = 0; i < branches; i++) {
+            int key = i;
+            engine = engine.when(value -> value % branches == key, value -> key);
+        }
+        this.engine = engine;
+        this.chain = chain;
+        sources = new Integer[1024];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = i;
+        }
+    }
+
+    private Integer next() {
+        return sources[cursor++ & (sources.length - 1)];
+    }
+
+    @Benchmark
+    public Integer engine() {
+        return engine.execute(next());
+    }
+
+    @Benchmark
+    public Integer predicateChain() {
+        return chain.map(next());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperEngineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
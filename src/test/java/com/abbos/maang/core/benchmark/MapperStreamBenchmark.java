@@ -0,0 +1,75 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.stream.CompiledMapper;
+import com.abbos.maang.core.stream.MapperStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the loop-based {@link MapperStream#execute(Object)} against the fused {@link CompiledMapper}, held both
+ * in a plain {@code @State} field and in a {@code static final} one.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperStreamBenchmark {
+
+    private static final CompiledMapper<Integer, Integer> ONE = increments(1).compile();
+    private static final CompiledMapper<Integer, Integer> FIVE = increments(5).compile();
+    private static final CompiledMapper<Integer, Integer> TWENTY = increments(20).compile();
+
+    @Param({"1", "5", "20"})
+    private int stages;
+
+    private MapperStream<Integer, Integer> stream;
+    private CompiledMapper<Integer, Integer> compiled;
+    private Integer source;
+
+    @Setup
+    public void setup() {
+        stream = increments(stages);
+        compiled = stream.compile();
+        source = 42;
+    }
+
+    private static MapperStream<Integer, Integer> increments(int stages) {
+        MapperStream<Integer, Integer> builder = MapperStream.from(Integer.class);
+        for (int i = 0; i < stages; i++) {
+            builder = builder.map(value -> value + 1);
+        }
+        return builder;
+    }
+
+    @Benchmark
+    public Integer loopExecute() {
+        return stream.execute(source);
+    }
+
+    @Benchmark
+    public Integer compiledExecute() {
+        return compiled.map(source);
+    }
+
+    @Benchmark
+    public Integer constantCompiledExecute() {
+        return switch (stages) {
+            case 1 -> ONE.map(source);
+            case 5 -> FIVE.map(source);
+            default -> TWENTY.map(source);
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperStreamBenchmark.class.getSimpleName()).build()).run();
+    }
+}
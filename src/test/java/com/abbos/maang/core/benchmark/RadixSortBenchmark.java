@@ -0,0 +1,73 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.stream.RadixSort;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares {@link RadixSort} with {@link Arrays#parallelSort(int[])} and {@code Stream.sorted()} on random ints.
+ * <p>
+ * The 100M case needs a large heap, e.g. {@code -Xmx8g}.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class RadixSortBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int size;
+
+    private int[] source;
+    private int[] work;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        source = new Random(42).ints(size).toArray();
+        work = new int[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, work, 0, size);
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        RadixSort.sort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] parallelRadixSort() {
+        RadixSort.parallelSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        Arrays.parallelSort(work);
+        return work;
+    }
+
+    @Benchmark
+    public int[] streamSorted() {
+        return IntStream.of(work).parallel().sorted().toArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RadixSortBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,120 @@
+package com.abbos.maang.core.benchmark;
+
+import com.abbos.maang.core.stream.SimdAggregates;
+import com.abbos.maang.core.stream.SimdCollectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Compares {@link SimdAggregates} with a scalar loop, {@link DoubleStream} and boxed {@link Collectors} reductions,
+ * and {@link SimdCollectors#summingDouble} with the {@code Collectors.summingDouble} it replaces.
+ * <p>
+ * {@code DoubleStream.sum()} and {@code Collectors.summingDouble} use Kahan compensated summation: they do more work
+ * per element for a more accurate result than a plain or SIMD sum. The like-for-like baseline of {@code simdSum} is
+ * {@code scalarSum}.
+ * <p>
+ * The fork adds {@code jdk.incubator.vector}; add {@code -Dmaang.simd.disabled=true} to measure the scalar fallback.
+ *
+ * @author Aliabbos Ashurov
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class SimdAggregatesBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private double[] salaries;
+    private int[] scores;
+    private List<Double> boxed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        salaries = random.doubles(size, 0, 10_000).toArray();
+        scores = random.ints(size, 0, 100).toArray();
+        boxed = DoubleStream.of(salaries).boxed().toList();
+    }
+
+    @Benchmark
+    public double simdSum() {
+        return SimdAggregates.sum(salaries);
+    }
+
+    @Benchmark
+    public double scalarSum() {
+        double sum = 0;
+        for (double salary : salaries) {
+            sum += salary;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleStreamSum() {
+        return DoubleStream.of(salaries).sum();
+    }
+
+    @Benchmark
+    public double boxedCollectorSum() {
+        return boxed.stream().collect(Collectors.summingDouble(Double::doubleValue));
+    }
+
+    @Benchmark
+    public double simdCollectorSum() {
+        return boxed.stream().collect(SimdCollectors.summingDouble(Double::doubleValue));
+    }
+
+    @Benchmark
+    public double simdMax() {
+        return SimdAggregates.max(salaries);
+    }
+
+    @Benchmark
+    public double doubleStreamMax() {
+        return DoubleStream.of(salaries).max().orElseThrow();
+    }
+
+    @Benchmark
+    public long simdIntSum() {
+        return SimdAggregates.sum(scores);
+    }
+
+    @Benchmark
+    public long intStreamSum() {
+        return IntStream.of(scores).asLongStream().sum();
+    }
+
+    @Benchmark
+    public int simdCountInRange() {
+        return SimdAggregates.countInRange(salaries, 2_500, 7_500);
+    }
+
+    @Benchmark
+    public long doubleStreamCountInRange() {
+        return DoubleStream.of(salaries).filter(s -> s >= 2_500 && s < 7_500).count();
+    }
+
+    @Benchmark
+    public long[] simdHistogram() {
+        return SimdAggregates.histogram(salaries, 0, 10_000, 20);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SimdAggregatesBenchmark.class.getSimpleName()).build()).run();
+    }
+}